@@ -7,13 +7,17 @@ import java.util.function.Supplier;
 
 import com.mojang.logging.LogUtils;
 import net.minecraft.world.level.block.Block;
+import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.config.ModConfigEvent;
-import net.minecraftforge.common.MinecraftForge;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import com.alcatrazescapee.notreepunching.common.PotterySequenceTable;
 import com.alcatrazescapee.notreepunching.platform.XPlatform;
+import com.alcatrazescapee.notreepunching.util.HarvestTable;
 import com.alcatrazescapee.notreepunching.util.SharpToolUtil;
 
 /**
@@ -27,34 +31,58 @@ public enum Config
     private static final Logger LOGGER = LogUtils.getLogger();
 
     // Config value wrappers that maintain the original interface
-    public final ConfigValue<Boolean> enableDynamicRecipeReplacement = new ConfigValue<>(() -> ForgeConfig.enableDynamicRecipeReplacement.get());
-    public final ConfigValue<Boolean> enableLooseRocksWorldGen = new ConfigValue<>(() -> ForgeConfig.enableLooseRocksWorldGen.get());
-    public final ConfigValue<Boolean> doBlocksMineWithoutCorrectTool = new ConfigValue<>(() -> ForgeConfig.doBlocksMineWithoutCorrectTool.get());
-    public final ConfigValue<Boolean> doInstantBreakBlocksMineWithoutCorrectTool = new ConfigValue<>(() -> ForgeConfig.doInstantBreakBlocksMineWithoutCorrectTool.get());
-    public final ConfigValue<Boolean> doBlocksDropWithoutCorrectTool = new ConfigValue<>(() -> ForgeConfig.doBlocksDropWithoutCorrectTool.get());
-    public final ConfigValue<Boolean> doInstantBreakBlocksDropWithoutCorrectTool = new ConfigValue<>(() -> ForgeConfig.doInstantBreakBlocksDropWithoutCorrectTool.get());
-    public final ConfigValue<Boolean> doInstantBreakBlocksDamageKnives = new ConfigValue<>(() -> ForgeConfig.doInstantBreakBlocksDamageKnives.get());
-
-    public final ConfigValue<Float> flintKnappingConsumeChance = new ConfigValue<>(() -> ForgeConfig.flintKnappingConsumeChance.get().floatValue());
-    public final ConfigValue<Float> flintKnappingSuccessChance = new ConfigValue<>(() -> ForgeConfig.flintKnappingSuccessChance.get().floatValue());
-    public final ConfigValue<Float> fireStarterFireStartChance = new ConfigValue<>(() -> ForgeConfig.fireStarterFireStartChance.get().floatValue());
-    public final ConfigValue<Boolean> fireStarterCanMakeCampfire = new ConfigValue<>(() -> ForgeConfig.fireStarterCanMakeCampfire.get());
-    public final ConfigValue<Boolean> fireStarterCanMakeSoulCampfire = new ConfigValue<>(() -> ForgeConfig.fireStarterCanMakeSoulCampfire.get());
-    public final ConfigValue<Boolean> largeVesselKeepsContentsWhenBroken = new ConfigValue<>(() -> ForgeConfig.largeVesselKeepsContentsWhenBroken.get());
-    public final ConfigValue<List<Block>> potteryBlockSequences = new ConfigValue<>(ForgeConfig::getPotteryBlockSequence);
+    public final BooleanConfigValue enableDynamicRecipeReplacement = new BooleanConfigValue(ForgeConfig.enableDynamicRecipeReplacement);
+    public final BooleanConfigValue enableLooseRocksWorldGen = new BooleanConfigValue(ForgeConfig.enableLooseRocksWorldGen);
+    public final BooleanConfigValue enableLooseRocksHeightmapPlacement = new BooleanConfigValue(ForgeConfig.enableLooseRocksHeightmapPlacement);
+    public final BooleanConfigValue doBlocksMineWithoutCorrectTool = new BooleanConfigValue(ForgeConfig.doBlocksMineWithoutCorrectTool);
+    public final BooleanConfigValue doInstantBreakBlocksMineWithoutCorrectTool = new BooleanConfigValue(ForgeConfig.doInstantBreakBlocksMineWithoutCorrectTool);
+    public final BooleanConfigValue doBlocksDropWithoutCorrectTool = new BooleanConfigValue(ForgeConfig.doBlocksDropWithoutCorrectTool);
+    public final BooleanConfigValue doInstantBreakBlocksDropWithoutCorrectTool = new BooleanConfigValue(ForgeConfig.doInstantBreakBlocksDropWithoutCorrectTool);
+    public final BooleanConfigValue doInstantBreakBlocksDamageKnives = new BooleanConfigValue(ForgeConfig.doInstantBreakBlocksDamageKnives);
+
+    public final FloatConfigValue flintKnappingConsumeChance = new FloatConfigValue(ForgeConfig.flintKnappingConsumeChance);
+    public final FloatConfigValue flintKnappingSuccessChance = new FloatConfigValue(ForgeConfig.flintKnappingSuccessChance);
+    public final FloatConfigValue fireStarterFireStartChance = new FloatConfigValue(ForgeConfig.fireStarterFireStartChance);
+    public final BooleanConfigValue fireStarterCanMakeCampfire = new BooleanConfigValue(ForgeConfig.fireStarterCanMakeCampfire);
+    public final BooleanConfigValue fireStarterCanMakeSoulCampfire = new BooleanConfigValue(ForgeConfig.fireStarterCanMakeSoulCampfire);
+    public final BooleanConfigValue largeVesselKeepsContentsWhenBroken = new BooleanConfigValue(ForgeConfig.largeVesselKeepsContentsWhenBroken);
+    public final BooleanConfigValue largeVesselSyncContentsToClients = new BooleanConfigValue(ForgeConfig.largeVesselSyncContentsToClients);
+    public final ListConfigValue<Block> potteryBlockSequences = new ListConfigValue<>(() -> PotterySequenceTable.defaultSequence(ForgeConfig.potteryBlockSequences.get()));
     
     // Sharp tool system config values
-    public final ConfigValue<Boolean> enableSharpToolSystem = new ConfigValue<>(() -> ForgeConfig.enableSharpToolSystem.get());
-    public final ConfigValue<Boolean> requireSharpToolForPlants = new ConfigValue<>(() -> ForgeConfig.requireSharpToolForPlants.get());
+    public final BooleanConfigValue enableSharpToolSystem = new BooleanConfigValue(ForgeConfig.enableSharpToolSystem);
+    public final BooleanConfigValue requireSharpToolForPlants = new BooleanConfigValue(ForgeConfig.requireSharpToolForPlants);
+
+    public final IntConfigValue metricsFileInterval = new IntConfigValue(ForgeConfig.metricsFileInterval);
 
-    static 
+    private final List<ConfigValue<?>> values = List.of(
+        enableDynamicRecipeReplacement, enableLooseRocksWorldGen, enableLooseRocksHeightmapPlacement,
+        doBlocksMineWithoutCorrectTool, doInstantBreakBlocksMineWithoutCorrectTool, doBlocksDropWithoutCorrectTool, doInstantBreakBlocksDropWithoutCorrectTool, doInstantBreakBlocksDamageKnives,
+        flintKnappingConsumeChance, flintKnappingSuccessChance, fireStarterFireStartChance, fireStarterCanMakeCampfire, fireStarterCanMakeSoulCampfire,
+        largeVesselKeepsContentsWhenBroken, largeVesselSyncContentsToClients, potteryBlockSequences,
+        enableSharpToolSystem, requireSharpToolForPlants,
+        metricsFileInterval
+    );
+
+    /**
+     * Config events are posted to the mod event bus. Values are resolved when the config is first loaded, and again whenever it is reloaded.
+     */
+    public static void registerListeners(IEventBus modEventBus)
     {
-        // Register config reload listener
-        MinecraftForge.EVENT_BUS.addListener((ModConfigEvent.Reloading event) -> {
+        modEventBus.addListener((ModConfigEvent.Loading event) -> {
+            if (NoTreePunching.MOD_ID.equals(event.getConfig().getModId()))
+            {
+                INSTANCE.resolve();
+            }
+        });
+        modEventBus.addListener((ModConfigEvent.Reloading event) -> {
             if (NoTreePunching.MOD_ID.equals(event.getConfig().getModId()))
             {
                 ForgeConfig.clearCache();
+                INSTANCE.resolve();
+                PotterySequenceTable.reload();
                 SharpToolUtil.onConfigReload(); // Clear sharp tool caches when config reloads
+                HarvestTable.invalidate();
                 LOGGER.info("NoTreePunching config reloaded");
             }
         });
@@ -68,6 +96,14 @@ public enum Config
         LOGGER.info("NoTreePunching Config is managed by Forge Config API");
     }
 
+    /**
+     * Resolves all values from the underlying Forge config.
+     */
+    public void resolve()
+    {
+        values.forEach(ConfigValue::resolve);
+    }
+
     /**
      * Functional interface for float suppliers to maintain original interface
      */
@@ -83,54 +119,177 @@ public enum Config
     }
 
     /**
-     * Config value wrapper that maintains the original Epsilon interface
+     * Config value wrapper that maintains the original Epsilon interface.
+     * Values are resolved from the underlying Forge config on load and reload, and read from a field otherwise.
      */
-    public static class ConfigValue<T>
+    public abstract static class ConfigValue<T>
     {
-        private final Supplier<T> supplier;
+        public abstract T get();
+
+        public boolean getAsBoolean()
+        {
+            return get() != null;
+        }
 
-        public ConfigValue(Supplier<T> supplier)
+        public float getAsFloat()
         {
-            this.supplier = supplier;
+            return 0.0f;
         }
 
-        public T get()
+        public double getAsDouble()
         {
-            return supplier.get();
+            return getAsFloat();
         }
 
+        abstract void resolve();
+    }
+
+    /**
+     * Until the config is loaded, this holds the default value.
+     */
+    public static final class BooleanConfigValue extends ConfigValue<Boolean>
+    {
+        private final ForgeConfigSpec.BooleanValue source;
+        private volatile boolean value;
+
+        BooleanConfigValue(ForgeConfigSpec.BooleanValue source)
+        {
+            this.source = source;
+            this.value = source.getDefault();
+        }
+
+        @Override
+        public Boolean get()
+        {
+            return value;
+        }
+
+        @Override
         public boolean getAsBoolean()
         {
-            T value = get();
-            if (value instanceof Boolean bool)
-            {
-                return bool;
-            }
-            else if (value instanceof Number num)
-            {
-                return num.doubleValue() != 0.0;
-            }
-            return value != null;
+            return value;
+        }
+
+        @Override
+        void resolve()
+        {
+            value = source.get();
+        }
+    }
+
+    /**
+     * Until the config is loaded, this holds the default value.
+     */
+    public static final class FloatConfigValue extends ConfigValue<Float>
+    {
+        private final ForgeConfigSpec.DoubleValue source;
+        private volatile float value;
+
+        FloatConfigValue(ForgeConfigSpec.DoubleValue source)
+        {
+            this.source = source;
+            this.value = source.getDefault().floatValue();
+        }
+
+        @Override
+        public Float get()
+        {
+            return value;
         }
 
+        @Override
+        public boolean getAsBoolean()
+        {
+            return value != 0.0f;
+        }
+
+        @Override
         public float getAsFloat()
         {
-            T value = get();
-            if (value instanceof Number num)
-            {
-                return num.floatValue();
-            }
-            return 0.0f;
+            return value;
         }
 
-        public double getAsDouble()
+        @Override
+        void resolve()
+        {
+            value = source.get().floatValue();
+        }
+    }
+
+    /**
+     * Until the config is loaded, this holds the default value.
+     */
+    public static final class IntConfigValue extends ConfigValue<Integer>
+    {
+        private final ForgeConfigSpec.IntValue source;
+        private volatile int value;
+
+        IntConfigValue(ForgeConfigSpec.IntValue source)
+        {
+            this.source = source;
+            this.value = source.getDefault();
+        }
+
+        @Override
+        public Integer get()
+        {
+            return value;
+        }
+
+        @Override
+        public boolean getAsBoolean()
         {
-            T value = get();
-            if (value instanceof Number num)
+            return value != 0;
+        }
+
+        @Override
+        public float getAsFloat()
+        {
+            return value;
+        }
+
+        public int getAsInt()
+        {
+            return value;
+        }
+
+        @Override
+        void resolve()
+        {
+            value = source.get();
+        }
+    }
+
+    /**
+     * List values may reference registry entries, which do not exist yet when the config is first loaded, so they are computed on first access after each load or reload.
+     */
+    public static final class ListConfigValue<T> extends ConfigValue<List<T>>
+    {
+        private final Supplier<List<T>> source;
+        private volatile @Nullable List<T> value;
+
+        ListConfigValue(Supplier<List<T>> source)
+        {
+            this.source = source;
+            this.value = null;
+        }
+
+        @Override
+        public List<T> get()
+        {
+            List<T> value = this.value;
+            if (value == null)
             {
-                return num.doubleValue();
+                value = List.copyOf(source.get());
+                this.value = value;
             }
-            return 0.0;
+            return value;
+        }
+
+        @Override
+        void resolve()
+        {
+            value = null;
         }
     }
-}
\ No newline at end of file
+}
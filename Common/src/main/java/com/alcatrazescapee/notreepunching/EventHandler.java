@@ -7,6 +7,7 @@ import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.InteractionHand;
@@ -14,17 +15,16 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import com.alcatrazescapee.notreepunching.client.ModSounds;
-import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.common.items.ModItems;
 import com.alcatrazescapee.notreepunching.util.HarvestBlockHandler;
-import com.alcatrazescapee.notreepunching.util.Helpers;
+import com.alcatrazescapee.notreepunching.util.KnappingTable;
 import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 public final class EventHandler
 {
@@ -118,17 +118,20 @@ public final class EventHandler
     @Nullable
     public static InteractionResult onRightClickBlock(Level level, BlockPos pos, Player player, InteractionHand hand, ItemStack stack, @Nullable Direction targetedFace)
     {
-        final BlockState state = level.getBlockState(pos);
-        // Use block tag instead of hardcoded SoundType.STONE for better mod compatibility
-        if (Helpers.isItem(stack.getItem(), ModTags.Items.FLINT_KNAPPABLE) && 
-            (state.is(ModTags.Blocks.KNAPPABLE_STONE) || state.getSoundType() == SoundType.STONE))
+        if (!KnappingTable.isKnappable(stack))
+        {
+            return null; // Reject before accessing the block state
+        }
+        if (KnappingTable.isKnappableSurface(level.getBlockState(pos)))
         {
             if (!level.isClientSide)
             {
+                Metrics.KNAPPING_ATTEMPTS.increment();
                 if (level.random.nextFloat() < Config.INSTANCE.flintKnappingConsumeChance.getAsFloat())
                 {
                     if (level.random.nextFloat() < Config.INSTANCE.flintKnappingSuccessChance.getAsFloat())
                     {
+                        Metrics.KNAPPING_SUCCESSES.increment();
                         Direction face = targetedFace == null ? Direction.UP : targetedFace;
                         Containers.dropItemStack(level, pos.getX() + 0.5 + face.getStepX() * 0.5, pos.getY() + 0.5 + face.getStepY() * 0.5, pos.getZ() + 0.5 + face.getStepZ() * 0.5, new ItemStack(ModItems.FLINT_SHARD.get(), 2));
                     }
@@ -148,5 +151,16 @@ public final class EventHandler
             Config.INSTANCE.load();
             return Command.SINGLE_SUCCESS;
         }));
+        dispatcher.register(Commands.literal("notreepunching").requires(c -> c.hasPermission(2))
+            .then(Commands.literal("metrics")
+                .executes(context -> {
+                    Metrics.report().forEach(line -> context.getSource().sendSuccess(() -> Component.literal(line), false));
+                    return Command.SINGLE_SUCCESS;
+                })
+                .then(Commands.literal("reset").executes(context -> {
+                    Metrics.reset();
+                    context.getSource().sendSuccess(() -> Component.literal("Reset No Tree Punching metrics"), true);
+                    return Command.SINGLE_SUCCESS;
+                }))));
     }
 }
\ No newline at end of file
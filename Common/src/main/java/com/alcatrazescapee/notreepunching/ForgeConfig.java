@@ -5,17 +5,11 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import com.mojang.logging.LogUtils;
-import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.config.ModConfig;
 import org.slf4j.Logger;
 
-import com.alcatrazescapee.notreepunching.common.blocks.ModBlocks;
-import com.alcatrazescapee.notreepunching.common.blocks.PotteryBlock;
 import com.alcatrazescapee.notreepunching.platform.XPlatform;
 
 /**
@@ -29,6 +23,7 @@ public final class ForgeConfig
     // Config values - using the same names as the original Epsilon config
     public static final ForgeConfigSpec.BooleanValue enableDynamicRecipeReplacement;
     public static final ForgeConfigSpec.BooleanValue enableLooseRocksWorldGen;
+    public static final ForgeConfigSpec.BooleanValue enableLooseRocksHeightmapPlacement;
     public static final ForgeConfigSpec.BooleanValue doBlocksMineWithoutCorrectTool;
     public static final ForgeConfigSpec.BooleanValue doInstantBreakBlocksMineWithoutCorrectTool;
     public static final ForgeConfigSpec.BooleanValue doBlocksDropWithoutCorrectTool;
@@ -41,6 +36,7 @@ public final class ForgeConfig
     public static final ForgeConfigSpec.BooleanValue fireStarterCanMakeCampfire;
     public static final ForgeConfigSpec.BooleanValue fireStarterCanMakeSoulCampfire;
     public static final ForgeConfigSpec.BooleanValue largeVesselKeepsContentsWhenBroken;
+    public static final ForgeConfigSpec.BooleanValue largeVesselSyncContentsToClients;
     public static final ForgeConfigSpec.ConfigValue<List<? extends String>> potteryBlockSequences;
     
     // Sharp tool system config values
@@ -48,15 +44,13 @@ public final class ForgeConfig
     public static final ForgeConfigSpec.BooleanValue requireSharpToolForPlants;
     public static final ForgeConfigSpec.BooleanValue enableSharpToolDebugLogging;
 
+    public static final ForgeConfigSpec.IntValue metricsFileInterval;
+
     private static final ForgeConfigSpec spec;
 
     // Cached config values for performance optimization
     private static volatile Boolean cachedEnableDynamicRecipes = null;
     private static volatile Boolean cachedEnableLooseRocks = null;
-    private static volatile List<Block> cachedPotteryBlocks = null;
-
-    // Cache invalidation timestamp
-    private static volatile long lastCacheUpdate = 0;
 
     static
     {
@@ -75,6 +69,11 @@ public final class ForgeConfig
         enableLooseRocksWorldGen = builder
             .comment("Enables loose rock world gen added automatically to biomes.")
             .define("enableLooseRocksWorldGen", true);
+        enableLooseRocksHeightmapPlacement = builder
+            .comment(
+                "Places loose rocks using the world generation heightmaps and a per-chunk index of columns that have a matching stone within eight blocks of the surface.",
+                "Attempts in columns without any stone (deserts, oceans) are rejected with a single lookup instead of probing downwards each time.")
+            .define("enableLooseRocksHeightmapPlacement", false);
 
         // Block harvesting section
         builder.pop().push("blockHarvesting");
@@ -118,12 +117,19 @@ public final class ForgeConfig
         largeVesselKeepsContentsWhenBroken = builder
             .comment("If the large ceramic vessel block keeps it's contents when broken (as opposed to dropping them on the ground)")
             .define("largeVesselKeepsContentsWhenBroken", true);
+        largeVesselSyncContentsToClients = builder
+            .comment(
+                "If the contents of large ceramic vessels are sent to clients with the chunk, and whenever they change.",
+                "When disabled, only the custom name is sent, and contents are only visible to players with the vessel open. This saves bandwidth in storage-heavy areas, but a creative pick block will not copy the contents.")
+            .define("largeVesselSyncContentsToClients", true);
 
         potteryBlockSequences = builder
             .comment(
                 "The sequence of blocks that can be created with the clay tool.",
                 "When the clay tool is used, if the block is present in this list, it may be converted to the next block in the list.",
-                "If the next block is minecraft:air, the block will be destroyed (the clay tool will never try and convert air into something)")
+                "If the next block is minecraft:air, the block will be destroyed (the clay tool will never try and convert air into something)",
+                "Additional, independent sequences can be added as a single entry, with blocks separated by '->', i.e. \"mymod:clay -> mymod:worked_clay -> mymod:clay_pot\"",
+                "Sequences may lead into the same block, but each block may only be converted into one other block.")
             .define("potteryBlockSequences", List.of(
                 "minecraft:clay",
                 "notreepunching:pottery_worked",
@@ -160,6 +166,14 @@ public final class ForgeConfig
             )
             .define("enableSharpToolDebugLogging", false);
 
+        builder.pop().push("metrics");
+        metricsFileInterval = builder
+            .comment(
+                "The interval, in seconds, at which server metrics are written to 'notreepunching-metrics.json' in the server directory.",
+                "Metrics are always collected, and can be viewed with '/notreepunching metrics'. Set to 0 to not write the file."
+            )
+            .defineInRange("metricsFileInterval", 0, 0, 86400);
+
         builder.pop();
         spec = builder.build();
     }
@@ -173,40 +187,13 @@ public final class ForgeConfig
         LOGGER.info("Registered NoTreePunching Forge Config");
     }
 
-    /**
-     * Get the pottery block sequence as parsed Block objects.
-     * Results are cached for performance.
-     */
-    public static List<Block> getPotteryBlockSequence()
-    {
-        List<Block> cached = cachedPotteryBlocks;
-        if (cached == null)
-        {
-            synchronized (ForgeConfig.class)
-            {
-                cached = cachedPotteryBlocks;
-                if (cached == null)
-                {
-                    cached = parsePotteryBlocks();
-                    cachedPotteryBlocks = cached;
-                }
-            }
-        }
-        return cached;
-    }
-
     /**
      * Clear all caches - call when config reloads for performance optimization
      */
     public static void clearCache()
     {
-        synchronized (ForgeConfig.class)
-        {
-            cachedEnableDynamicRecipes = null;
-            cachedEnableLooseRocks = null;
-            cachedPotteryBlocks = null;
-            lastCacheUpdate = System.currentTimeMillis();
-        }
+        cachedEnableDynamicRecipes = null;
+        cachedEnableLooseRocks = null;
     }
 
     /**
@@ -219,37 +206,5 @@ public final class ForgeConfig
         return configValue.get();
     }
 
-    private static List<Block> parsePotteryBlocks()
-    {
-        try
-        {
-            return potteryBlockSequences.get().stream()
-                .map(name -> {
-                    Block block = BuiltInRegistries.BLOCK.getOptional(new ResourceLocation(name)).orElse(null);
-                    if (block == null)
-                    {
-                        LOGGER.warn("Invalid block in pottery sequence: '{}'", name);
-                        return Blocks.AIR; // Fallback to air for invalid blocks
-                    }
-                    return block;
-                })
-                .toList();
-        }
-        catch (Exception e)
-        {
-            LOGGER.error("Failed to parse pottery block sequences, using defaults", e);
-            // Return default sequence if parsing fails
-            return List.of(
-                Blocks.CLAY,
-                ModBlocks.POTTERY.get(PotteryBlock.Variant.WORKED).get(),
-                ModBlocks.POTTERY.get(PotteryBlock.Variant.LARGE_VESSEL).get(),
-                ModBlocks.POTTERY.get(PotteryBlock.Variant.SMALL_VESSEL).get(),
-                ModBlocks.POTTERY.get(PotteryBlock.Variant.BUCKET).get(),
-                ModBlocks.POTTERY.get(PotteryBlock.Variant.FLOWER_POT).get(),
-                Blocks.AIR
-            );
-        }
-    }
-
     private ForgeConfig() {} // Static utility class
 }
\ No newline at end of file
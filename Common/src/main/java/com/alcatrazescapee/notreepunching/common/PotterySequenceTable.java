@@ -0,0 +1,209 @@
+package com.alcatrazescapee.notreepunching.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import com.alcatrazescapee.notreepunching.ForgeConfig;
+
+/**
+ * The pottery sequences used by the clay tool, compiled from {@code potteryBlockSequences} into a map from each block to the block it is converted into.
+ * <ul>
+ *     <li>The current table is read without locks, via {@link #get()}. It is compiled on first access, as it references registered blocks.</li>
+ *     <li>On config reload, a new table is compiled on a background thread, and swapped in once complete. Until then, the previous table remains in use.</li>
+ *     <li>Entries that are rejected (unknown blocks, or conflicting conversions) are logged once, not every time the table is compiled.</li>
+ * </ul>
+ */
+public final class PotterySequenceTable
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String SEPARATOR = "->";
+
+    private static final Set<String> REPORTED = ConcurrentHashMap.newKeySet();
+    private static volatile @Nullable PotterySequenceTable current = null;
+
+    public static PotterySequenceTable get()
+    {
+        PotterySequenceTable table = current;
+        if (table == null)
+        {
+            // Compiling twice on a race is harmless, as both tables are equivalent
+            table = compile(List.copyOf(ForgeConfig.potteryBlockSequences.get()));
+            current = table;
+        }
+        return table;
+    }
+
+    /**
+     * Compiles the table from the current config on a background thread, and swaps it in once done.
+     */
+    public static CompletableFuture<PotterySequenceTable> reload()
+    {
+        final List<String> entries = List.copyOf(ForgeConfig.potteryBlockSequences.get());
+        return CompletableFuture.supplyAsync(() -> compile(entries), Util.backgroundExecutor())
+            .whenComplete((table, error) -> {
+                if (error != null)
+                {
+                    LOGGER.error("Failed to compile pottery sequences, keeping the previous sequences", error);
+                }
+                else
+                {
+                    current = table;
+                }
+            });
+    }
+
+    /**
+     * @return The blocks of the default sequence, from the plain entries in order, omitting any which are not valid blocks. Rejected entries are reported when the table is compiled.
+     */
+    public static List<Block> defaultSequence(List<? extends String> entries)
+    {
+        final List<Block> sequence = new ArrayList<>();
+        for (String entry : entries)
+        {
+            if (!entry.contains(SEPARATOR))
+            {
+                final ResourceLocation id = ResourceLocation.tryParse(entry.trim());
+                if (id != null)
+                {
+                    BuiltInRegistries.BLOCK.getOptional(id).ifPresent(sequence::add);
+                }
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Plain entries form the default sequence, and entries containing {@code ->} each form an additional, independent sequence.
+     * An invalid block splits the sequence it is in, so neither neighbour is converted into, or from, it.
+     */
+    static PotterySequenceTable compile(List<String> entries)
+    {
+        final List<String> rejected = new ArrayList<>();
+        final List<List<Block>> defaultSequences = new ArrayList<>(); // Fragments of the default sequence, which take priority over additional sequences
+        final List<List<Block>> additionalSequences = new ArrayList<>();
+        final List<Block> defaultSequence = new ArrayList<>();
+        for (String entry : entries)
+        {
+            if (entry.contains(SEPARATOR))
+            {
+                final List<Block> sequence = new ArrayList<>();
+                for (String name : entry.split(SEPARATOR))
+                {
+                    addOrSplit(sequence, additionalSequences, name.trim(), rejected);
+                }
+                additionalSequences.add(sequence);
+            }
+            else
+            {
+                addOrSplit(defaultSequence, defaultSequences, entry.trim(), rejected);
+            }
+        }
+        defaultSequences.add(defaultSequence);
+
+        final List<List<Block>> sequences = new ArrayList<>(defaultSequences);
+        sequences.addAll(additionalSequences);
+
+        final Map<Block, Block> transitions = new IdentityHashMap<>();
+        for (List<Block> sequence : sequences)
+        {
+            for (int i = 0; i < sequence.size() - 1; i++)
+            {
+                final Block block = sequence.get(i), next = sequence.get(i + 1);
+                if (block == Blocks.AIR)
+                {
+                    continue; // Never convert air into something
+                }
+                final Block existing = transitions.putIfAbsent(block, next);
+                if (existing != null && existing != next)
+                {
+                    rejected.add("'%s' is converted into both '%s' and '%s', using the former".formatted(BuiltInRegistries.BLOCK.getKey(block), BuiltInRegistries.BLOCK.getKey(existing), BuiltInRegistries.BLOCK.getKey(next)));
+                }
+            }
+        }
+
+        for (String reason : rejected)
+        {
+            if (REPORTED.add(reason))
+            {
+                LOGGER.warn("Rejected pottery sequence entry: {}", reason);
+            }
+        }
+
+        return new PotterySequenceTable(Collections.unmodifiableMap(transitions), sequences.stream().filter(s -> s.size() > 1).map(List::copyOf).toList(), List.copyOf(rejected));
+    }
+
+    private static void addOrSplit(List<Block> sequence, List<List<Block>> sequences, String name, List<String> rejected)
+    {
+        final ResourceLocation id = ResourceLocation.tryParse(name);
+        final Block block = id == null ? null : BuiltInRegistries.BLOCK.getOptional(id).orElse(null);
+        if (block == null)
+        {
+            rejected.add("'%s' is not a valid block".formatted(name));
+            if (!sequence.isEmpty())
+            {
+                sequences.add(List.copyOf(sequence));
+                sequence.clear();
+            }
+            return;
+        }
+        sequence.add(block);
+    }
+
+    private final Map<Block, Block> transitions;
+    private final List<List<Block>> sequences;
+    private final List<String> rejected;
+
+    private PotterySequenceTable(Map<Block, Block> transitions, List<List<Block>> sequences, List<String> rejected)
+    {
+        this.transitions = transitions;
+        this.sequences = sequences;
+        this.rejected = rejected;
+    }
+
+    /**
+     * @return The block that {@code block} is converted into by the clay tool, or {@code null} if it cannot be. {@link Blocks#AIR} means the block is destroyed.
+     */
+    @Nullable
+    public Block next(Block block)
+    {
+        return transitions.get(block);
+    }
+
+    /**
+     * @return An unmodifiable view of every conversion.
+     */
+    public Map<Block, Block> transitions()
+    {
+        return transitions;
+    }
+
+    /**
+     * @return Every valid sequence of two or more blocks.
+     */
+    public List<List<Block>> sequences()
+    {
+        return sequences;
+    }
+
+    /**
+     * @return A description of every entry rejected when this table was compiled.
+     */
+    public List<String> rejected()
+    {
+        return rejected;
+    }
+}
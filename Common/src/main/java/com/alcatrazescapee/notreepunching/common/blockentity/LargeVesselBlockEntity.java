@@ -1,21 +1,32 @@
 package com.alcatrazescapee.notreepunching.common.blockentity;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
+import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.common.container.LargeVesselContainer;
 import com.alcatrazescapee.notreepunching.util.Helpers;
 import com.alcatrazescapee.notreepunching.util.inventory.ItemStackInventory;
+import com.alcatrazescapee.notreepunching.util.inventory.ModificationBatch;
+import com.alcatrazescapee.notreepunching.util.jfr.VesselSyncEvent;
 
 import static com.alcatrazescapee.notreepunching.NoTreePunching.MOD_ID;
 
@@ -27,15 +38,48 @@ public class LargeVesselBlockEntity extends ModBlockEntity implements MenuProvid
 
     public static final Component NAME = Component.translatable(MOD_ID + ".block_entity.large_vessel");
 
+    /**
+     * Present only in slot sync packets, as a bitmask of the slots included. Slots in the mask, but not in the item list, are empty.
+     */
+    private static final String SYNCED_SLOTS = "SyncedSlots";
+
+    /**
+     * Whether each item can be contained, which is checked for every slot by automation inserting into the vessel. Cleared when tags are reloaded.
+     */
+    private static final Map<Item, Boolean> CAN_CONTAIN = new ConcurrentHashMap<>();
+
+    public static void onTagsUpdated()
+    {
+        CAN_CONTAIN.clear();
+    }
+
     private final NonNullList<ItemStack> slots;
     private @Nullable Component name;
 
+    // Copies of the slots as of the last sync to clients, as stacks may be changed in place (count, damage, or tag)
+    private final ItemStack[] syncedStacks;
+    private boolean syncPending;
+
+    // Bitmasks of the empty slots, and of the slots holding each item which have room left. Recomputed on the first query after a modification.
+    private int emptySlots;
+    private final Reference2IntMap<Item> partialSlots;
+    private boolean slotIndexDirty;
+
+    private final ModificationBatch batch;
+
     public LargeVesselBlockEntity(BlockPos pos, BlockState state)
     {
         super(ModBlockEntities.LARGE_VESSEL.get(), pos, state);
 
         this.slots = NonNullList.withSize(SLOTS, ItemStack.EMPTY);
         this.name = null;
+        this.syncedStacks = new ItemStack[SLOTS];
+        this.syncPending = false;
+        this.partialSlots = new Reference2IntOpenHashMap<>();
+        this.slotIndexDirty = true;
+        this.batch = new ModificationBatch();
+
+        markSlotsSynced();
     }
 
     public void setCustomName(@Nullable Component name)
@@ -56,15 +100,45 @@ public class LargeVesselBlockEntity extends ModBlockEntity implements MenuProvid
         return new LargeVesselContainer(this, playerInventory, windowId);
     }
 
+    /**
+     * Chunk data and block updates only include the contents if {@code largeVesselSyncContentsToClients} is enabled. Otherwise, the contents are only synced through {@link LargeVesselContainer}, to players with the vessel open.
+     */
+    @Override
+    public CompoundTag getUpdateTag()
+    {
+        return createUpdateTag(Config.INSTANCE.largeVesselSyncContentsToClients.getAsBoolean());
+    }
+
+    public CompoundTag createUpdateTag(boolean includeContents)
+    {
+        if (includeContents)
+        {
+            return saveWithoutMetadata();
+        }
+        final CompoundTag tag = new CompoundTag();
+        if (name != null)
+        {
+            tag.putString("CustomName", Component.Serializer.toJson(name));
+        }
+        return tag;
+    }
+
     @Override
     protected void loadAdditional(CompoundTag tag)
     {
+        slotIndexDirty = true;
+        if (tag.contains(SYNCED_SLOTS, Tag.TAG_INT))
+        {
+            loadSlotChanges(tag);
+            return;
+        }
         slots.clear();
         ContainerHelper.loadAllItems(tag, slots);
         if (tag.contains("CustomName"))
         {
             name = Component.Serializer.fromJson(tag.getString("CustomName"));
         }
+        markSlotsSynced();
         super.loadAdditional(tag);
     }
 
@@ -85,10 +159,70 @@ public class LargeVesselBlockEntity extends ModBlockEntity implements MenuProvid
         return slots;
     }
 
+    /**
+     * Marks the vessel as changed (to be saved, and updating comparators), and schedules a block tick to sync the changed slots to clients on the next tick.
+     * Within a batch, this happens once, when the batch is committed.
+     */
+    @Override
+    public void modified()
+    {
+        slotIndexDirty = true;
+        if (batch.defer())
+        {
+            return;
+        }
+        if (level != null && !level.isClientSide)
+        {
+            if (!syncPending)
+            {
+                syncPending = true;
+                level.scheduleTick(worldPosition, getBlockState().getBlock(), 1);
+            }
+            setChanged();
+        }
+    }
+
+    @Override
+    public void beginBatch()
+    {
+        batch.begin();
+    }
+
+    @Override
+    public void commitBatch()
+    {
+        if (batch.commit())
+        {
+            modified();
+        }
+    }
+
     @Override
     public boolean canContain(ItemStack stack)
     {
-        return !Helpers.isItem(stack.getItem(), ModTags.Items.LARGE_VESSEL_BLACKLIST);
+        return CAN_CONTAIN.computeIfAbsent(stack.getItem(), item -> !Helpers.isItem(item, ModTags.Items.LARGE_VESSEL_BLACKLIST));
+    }
+
+    /**
+     * A fast, conservative check used to reject insertion into most slots without inspecting them: {@code slot} is either empty, or holds the same item as {@code stack} with room left.
+     * Callers still need to check the slot in full, as this does not compare tags.
+     * Stacks may shrink in place without {@link #modified()}, which the index would miss, so a slot the index rejects is checked against its current stack before it is rejected.
+     */
+    public boolean mayInsert(int slot, ItemStack stack)
+    {
+        updateSlotIndex();
+        final int bit = 1 << slot;
+        if ((emptySlots & bit) != 0 || (partialSlots.getInt(stack.getItem()) & bit) != 0)
+        {
+            return true;
+        }
+        final ItemStack current = slots.get(slot);
+        if (current.isEmpty() || (current.is(stack.getItem()) && current.getCount() < current.getMaxStackSize()))
+        {
+            slotIndexDirty = true;
+            return true;
+        }
+        return false;
     }
 
     public boolean isEmpty()
@@ -102,4 +236,114 @@ public class LargeVesselBlockEntity extends ModBlockEntity implements MenuProvid
         }
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends the slots which have changed since the last sync, if any, to all tracking clients as a single packet. Called from the block tick scheduled by {@link #modified()}.
+     * Clients receive the full contents with the chunk, via {@link #getUpdateTag()}, so this only needs to cover changes made afterwards.
+     */
+    public void syncChangedSlots()
+    {
+        if (!syncPending)
+        {
+            return;
+        }
+        syncPending = false;
+        if (!Config.INSTANCE.largeVesselSyncContentsToClients.getAsBoolean())
+        {
+            return;
+        }
+
+        final VesselSyncEvent event = new VesselSyncEvent();
+        event.begin();
+
+        int changedSlots = 0;
+        final ListTag items = new ListTag();
+        for (int slot = 0; slot < SLOTS; slot++)
+        {
+            final ItemStack stack = slots.get(slot);
+            if (!ItemStack.matches(stack, syncedStacks[slot]))
+            {
+                changedSlots |= 1 << slot;
+                syncedStacks[slot] = stack.copy();
+                if (!stack.isEmpty())
+                {
+                    final CompoundTag entry = new CompoundTag();
+                    entry.putByte("Slot", (byte) slot);
+                    stack.save(entry);
+                    items.add(entry);
+                }
+            }
+        }
+
+        if (changedSlots != 0)
+        {
+            final CompoundTag tag = new CompoundTag();
+            tag.putInt(SYNCED_SLOTS, changedSlots);
+            tag.put("Items", items);
+            sendUpdatePacket(ClientboundBlockEntityDataPacket.create(this, e -> tag));
+
+            event.end();
+            if (event.shouldCommit())
+            {
+                event.x = worldPosition.getX();
+                event.y = worldPosition.getY();
+                event.z = worldPosition.getZ();
+                event.changedSlots = Integer.bitCount(changedSlots);
+                event.commit();
+            }
+        }
+    }
+
+    private void loadSlotChanges(CompoundTag tag)
+    {
+        final int changedSlots = tag.getInt(SYNCED_SLOTS);
+        for (int slot = 0; slot < SLOTS; slot++)
+        {
+            if ((changedSlots & (1 << slot)) != 0)
+            {
+                slots.set(slot, ItemStack.EMPTY);
+            }
+        }
+        final ListTag items = tag.getList("Items", Tag.TAG_COMPOUND);
+        for (int i = 0; i < items.size(); i++)
+        {
+            final CompoundTag entry = items.getCompound(i);
+            final int slot = entry.getByte("Slot") & 255;
+            if (slot < SLOTS)
+            {
+                slots.set(slot, ItemStack.of(entry));
+            }
+        }
+    }
+
+    private void updateSlotIndex()
+    {
+        if (!slotIndexDirty)
+        {
+            return;
+        }
+        slotIndexDirty = false;
+        emptySlots = 0;
+        partialSlots.clear();
+        for (int slot = 0; slot < SLOTS; slot++)
+        {
+            final ItemStack stack = slots.get(slot);
+            if (stack.isEmpty())
+            {
+                emptySlots |= 1 << slot;
+            }
+            else if (stack.getCount() < stack.getMaxStackSize())
+            {
+                partialSlots.mergeInt(stack.getItem(), 1 << slot, (a, b) -> a | b);
+            }
+        }
+    }
+
+    private void markSlotsSynced()
+    {
+        for (int slot = 0; slot < SLOTS; slot++)
+        {
+            syncedStacks[slot] = slots.get(slot).copy();
+        }
+    }
+}
@@ -16,7 +16,7 @@ public class ModBlockEntities
 {
     public static final RegistryInterface<BlockEntityType<?>> BLOCK_ENTITIES = XPlatform.INSTANCE.registryInterface(BuiltInRegistries.BLOCK_ENTITY_TYPE);
 
-    public static final RegistryHolder<BlockEntityType<LargeVesselBlockEntity>> LARGE_VESSEL = register("large_vessel", LargeVesselBlockEntity::new, ModBlocks.CERAMIC_LARGE_VESSEL);
+    public static final RegistryHolder<BlockEntityType<LargeVesselBlockEntity>> LARGE_VESSEL = register("large_vessel", XPlatform.INSTANCE::largeVesselBlockEntity, ModBlocks.CERAMIC_LARGE_VESSEL);
 
     private static <T extends BlockEntity> RegistryHolder<BlockEntityType<T>> register(String name, BlockEntityFactory<T> factory, Supplier<? extends Block> block)
     {
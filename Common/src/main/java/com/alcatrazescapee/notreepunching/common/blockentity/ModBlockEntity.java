@@ -81,7 +81,14 @@ public abstract class ModBlockEntity extends BlockEntity
 
     protected final void sendVanillaUpdatePacket()
     {
-        final ClientboundBlockEntityDataPacket packet = getUpdatePacket();
+        sendUpdatePacket(getUpdatePacket());
+    }
+
+    /**
+     * Sends {@code packet} to all players tracking the chunk this block entity is in.
+     */
+    protected final void sendUpdatePacket(@Nullable ClientboundBlockEntityDataPacket packet)
+    {
         final BlockPos pos = getBlockPos();
         if (packet != null && level instanceof ServerLevel serverLevel)
         {
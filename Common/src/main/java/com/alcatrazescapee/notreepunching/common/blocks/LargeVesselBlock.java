@@ -1,7 +1,9 @@
 package com.alcatrazescapee.notreepunching.common.blocks;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -44,11 +46,12 @@ public class LargeVesselBlock extends Block implements EntityBlock
             level.getBlockEntity(pos, ModBlockEntities.LARGE_VESSEL.get()).ifPresent(vessel -> {
                 if (!Config.INSTANCE.largeVesselKeepsContentsWhenBroken.getAsBoolean())
                 {
+                    // The block entity is about to be removed, so the slots are cleared directly, without saving or scheduling a sync
                     for (int i = 0; i < vessel.size(); i++)
                     {
                         final ItemStack stack = vessel.get(i);
                         Containers.dropItemStack(level, pos.getX(), pos.getY(), pos.getZ(), stack);
-                        vessel.set(i, ItemStack.EMPTY);
+                        vessel.slots().set(i, ItemStack.EMPTY);
                     }
                 }
                 level.updateNeighbourForOutputSignal(pos, this);
@@ -117,6 +120,16 @@ public class LargeVesselBlock extends Block implements EntityBlock
     @Override
     public BlockEntity newBlockEntity(BlockPos pos, BlockState state)
     {
-        return new LargeVesselBlockEntity(pos, state);
+        return XPlatform.INSTANCE.largeVesselBlockEntity(pos, state);
+    }
+
+    /**
+     * Scheduled by the vessel when its contents change, to sync the changed slots to clients at most once per tick.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random)
+    {
+        level.getBlockEntity(pos, ModBlockEntities.LARGE_VESSEL.get()).ifPresent(LargeVesselBlockEntity::syncChangedSlots);
     }
 }
\ No newline at end of file
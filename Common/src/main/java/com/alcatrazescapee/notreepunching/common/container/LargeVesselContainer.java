@@ -1,6 +1,7 @@
 package com.alcatrazescapee.notreepunching.common.container;
 
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 
 import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
@@ -29,6 +30,12 @@ public final class LargeVesselContainer extends ModContainer
         }
     }
 
+    @Override
+    public ItemStack quickMoveStack(Player player, int index)
+    {
+        return vessel.batch(() -> super.quickMoveStack(player, index));
+    }
+
     @Override
     protected boolean moveStack(ItemStack stack, int slotIndex)
     {
@@ -2,20 +2,30 @@ package com.alcatrazescapee.notreepunching.common.container;
 
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 import com.alcatrazescapee.notreepunching.common.items.SmallVesselItem;
 import com.alcatrazescapee.notreepunching.util.inventory.InventorySlot;
 import com.alcatrazescapee.notreepunching.util.inventory.ItemStackAttachedInventory;
-import net.minecraft.world.item.ItemStack;
 
 public final class SmallVesselContainer extends ItemStackContainer
 {
+    private @Nullable ItemStackAttachedInventory inventory;
+
     public SmallVesselContainer(int windowId, Inventory playerInventory, InteractionHand hand)
     {
         super(ModContainers.SMALL_VESSEL.get(), windowId, playerInventory, hand);
         init(playerInventory);
     }
 
+    @Override
+    public ItemStack quickMoveStack(Player player, int index)
+    {
+        return inventory != null ? inventory.batch(() -> super.quickMoveStack(player, index)) : super.quickMoveStack(player, index);
+    }
+
     @Override
     protected boolean moveStack(ItemStack stack, int slotIndex)
     {
@@ -30,6 +40,7 @@ public final class SmallVesselContainer extends ItemStackContainer
     protected void addContainerSlots()
     {
         final ItemStackAttachedInventory inventory = SmallVesselItem.INVENTORY.create(player.getItemInHand(hand));
+        this.inventory = inventory;
         for (int x = 0; x < SmallVesselItem.SLOT_COLUMNS; x++)
         {
             for (int y = 0; y < SmallVesselItem.SLOT_ROWS; y++)
@@ -1,7 +1,5 @@
 package com.alcatrazescapee.notreepunching.common.items;
 
-
-import java.util.List;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -16,11 +14,10 @@ import net.minecraft.world.item.enchantment.Enchantment;
 import net.minecraft.world.item.enchantment.EnchantmentCategory;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
-import com.alcatrazescapee.notreepunching.Config;
+import com.alcatrazescapee.notreepunching.common.PotterySequenceTable;
 import com.alcatrazescapee.notreepunching.util.Helpers;
 import com.alcatrazescapee.notreepunching.platform.Platform;
 import com.alcatrazescapee.notreepunching.platform.PlatformOverride;
@@ -29,17 +26,12 @@ public class ClayToolItem extends TieredItem
 {
     public static ItemStack interactWithBlock(LevelAccessor level, BlockPos pos, BlockState state, @Nullable Player player, @Nullable InteractionHand hand, ItemStack stack)
     {
-        final List<Block> sequence = Config.INSTANCE.potteryBlockSequences.get();
-        for (int i = 0; i < sequence.size() - 1; i++)
+        final Block replacement = PotterySequenceTable.get().next(state.getBlock());
+        if (replacement != null)
         {
-            if (state.getBlock() == sequence.get(i) && state.getBlock() != Blocks.AIR)
-            {
-                final Block replacement = sequence.get(i + 1);
-                level.setBlock(pos, replacement.defaultBlockState(), 3);
-                level.playSound(null, pos, SoundEvents.GRAVEL_PLACE, SoundSource.BLOCKS, 0.5F, 1.0F);
-                stack = Helpers.hurtAndBreak(player, hand, stack, 1);
-                return stack;
-            }
+            level.setBlock(pos, replacement.defaultBlockState(), 3);
+            level.playSound(null, pos, SoundEvents.GRAVEL_PLACE, SoundSource.BLOCKS, 0.5F, 1.0F);
+            stack = Helpers.hurtAndBreak(player, hand, stack, 1);
         }
         return stack;
     }
@@ -0,0 +1,162 @@
+package com.alcatrazescapee.notreepunching.common.items;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.AbortableIterationConsumer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+import com.alcatrazescapee.notreepunching.common.ModTags;
+import com.alcatrazescapee.notreepunching.util.Helpers;
+
+/**
+ * Finds the ingredients of a fire pit (one log, three kindling, and optionally one soul fire catalyst) among the items dropped above a block.
+ * <ul>
+ *     <li>Only item entities are visited, as the entity type is tested by the section lookup, and the search stops as soon as all ingredients have been found.</li>
+ *     <li>Each item is classified with a single read from a table indexed by item registry id, which is rebuilt whenever tags are (re)loaded.</li>
+ * </ul>
+ */
+public final class FireStarterIngredients
+{
+    public static final int LOGS = 1, KINDLING = 3, SOUL_FIRE_CATALYST = 1;
+
+    private static final byte NONE = 0, LOG = 1, KINDLING_ITEM = 2, SOUL_FIRE_CATALYST_ITEM = 3;
+
+    private static volatile byte @Nullable [] types = null;
+
+    /**
+     * Called when tags are loaded or synced.
+     */
+    public static void rebuild()
+    {
+        final byte[] table = new byte[BuiltInRegistries.ITEM.size()];
+        for (Item item : BuiltInRegistries.ITEM)
+        {
+            table[BuiltInRegistries.ITEM.getId(item)] = typeOfUncached(item);
+        }
+        types = table;
+    }
+
+    /**
+     * @param needsSoulFireCatalyst If the search should continue until a soul fire catalyst is found, once the logs and kindling have been found.
+     */
+    public static FireStarterIngredients find(ServerLevel level, BlockPos pos, boolean needsSoulFireCatalyst)
+    {
+        final FireStarterIngredients ingredients = new FireStarterIngredients(needsSoulFireCatalyst);
+        level.getEntities().get(EntityType.ITEM, new AABB(pos.above(), pos.offset(1, 2, 1)), ingredients::accept);
+        return ingredients;
+    }
+
+    private static byte typeOf(Item item)
+    {
+        final byte[] table = types;
+        if (table == null)
+        {
+            return typeOfUncached(item);
+        }
+        final int id = BuiltInRegistries.ITEM.getId(item);
+        return id >= 0 && id < table.length ? table[id] : NONE;
+    }
+
+    private static byte typeOfUncached(Item item)
+    {
+        if (Helpers.isItem(item, ModTags.Items.FIRE_STARTER_LOGS))
+        {
+            return LOG;
+        }
+        if (Helpers.isItem(item, ModTags.Items.FIRE_STARTER_KINDLING))
+        {
+            return KINDLING_ITEM;
+        }
+        if (Helpers.isItem(item, ModTags.Items.FIRE_STARTER_SOUL_FIRE_CATALYST))
+        {
+            return SOUL_FIRE_CATALYST_ITEM;
+        }
+        return NONE;
+    }
+
+    private static void removeItems(List<ItemEntity> itemEntities, int removeAmount)
+    {
+        for (ItemEntity itemEntity : itemEntities)
+        {
+            final ItemStack stack = itemEntity.getItem();
+            final int shrink = Math.min(stack.getCount(), removeAmount);
+            removeAmount -= shrink;
+            stack.shrink(shrink);
+            if (stack.getCount() == 0)
+            {
+                itemEntity.remove(Entity.RemovalReason.KILLED);
+            }
+        }
+    }
+
+    private final boolean needsSoulFireCatalyst;
+    private final List<ItemEntity> logEntities = new ArrayList<>(1), kindlingEntities = new ArrayList<>(3), soulFireEntities = new ArrayList<>(1);
+    private int logs, kindling, soulFire;
+
+    private FireStarterIngredients(boolean needsSoulFireCatalyst)
+    {
+        this.needsSoulFireCatalyst = needsSoulFireCatalyst;
+    }
+
+    public boolean hasCampfire()
+    {
+        return logs >= LOGS && kindling >= KINDLING;
+    }
+
+    public boolean hasSoulFireCatalyst()
+    {
+        return soulFire >= SOUL_FIRE_CATALYST;
+    }
+
+    /**
+     * Consumes the logs and kindling, and the soul fire catalyst if {@code soulCampfire} is true.
+     */
+    public void consume(boolean soulCampfire)
+    {
+        removeItems(logEntities, LOGS);
+        removeItems(kindlingEntities, KINDLING);
+        if (soulCampfire)
+        {
+            removeItems(soulFireEntities, SOUL_FIRE_CATALYST);
+        }
+    }
+
+    private AbortableIterationConsumer.Continuation accept(ItemEntity entity)
+    {
+        final ItemStack stack = entity.getItem();
+        switch (typeOf(stack.getItem()))
+        {
+            case LOG -> {
+                if (logs < LOGS)
+                {
+                    logs += stack.getCount();
+                    logEntities.add(entity);
+                }
+            }
+            case KINDLING_ITEM -> {
+                if (kindling < KINDLING)
+                {
+                    kindling += stack.getCount();
+                    kindlingEntities.add(entity);
+                }
+            }
+            case SOUL_FIRE_CATALYST_ITEM -> {
+                if (soulFire < SOUL_FIRE_CATALYST)
+                {
+                    soulFire += stack.getCount();
+                    soulFireEntities.add(entity);
+                }
+            }
+        }
+        return hasCampfire() && (!needsSoulFireCatalyst || hasSoulFireCatalyst()) ? AbortableIterationConsumer.Continuation.ABORT : AbortableIterationConsumer.Continuation.CONTINUE;
+    }
+}
@@ -1,17 +1,15 @@
 package com.alcatrazescapee.notreepunching.common.items;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.ref.WeakReference;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.InteractionResultHolder;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TieredItem;
@@ -26,15 +24,16 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.CampfireBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 import com.alcatrazescapee.notreepunching.Config;
-import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.util.Helpers;
 import com.alcatrazescapee.notreepunching.platform.Platform;
 import com.alcatrazescapee.notreepunching.platform.PlatformOverride;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 public class FireStarterItem extends TieredItem
 {
@@ -53,6 +52,10 @@ public class FireStarterItem extends TieredItem
     @Override
     public ItemStack finishUsingItem(ItemStack stack, Level level, LivingEntity entity)
     {
+        if (level.isClientSide)
+        {
+            UseSession.clear();
+        }
         if (entity instanceof Player player)
         {
             BlockHitResult result = getPlayerPOVHitResult(level, player, ClipContext.Fluid.NONE);
@@ -63,6 +66,7 @@ public class FireStarterItem extends TieredItem
                 BlockPos pos = result.getBlockPos();
                 if (!level.isClientSide)
                 {
+                    Metrics.FIRE_STARTER_ACTIVATIONS.increment();
                     stack = Helpers.hurtAndBreak(player, player.getUsedItemHand(), stack, 1);
 
                     BlockState stateAt = level.getBlockState(pos);
@@ -74,45 +78,14 @@ public class FireStarterItem extends TieredItem
                     }
                     else
                     {
-                        List<ItemEntity> entities = level.getEntitiesOfClass(ItemEntity.class, new AABB(pos.above(), pos.offset(1, 2, 1)));
-                        List<ItemEntity> logEntities = new ArrayList<>(), kindlingEntities = new ArrayList<>(), soulFireEntities = new ArrayList<>();
-
-                        // Require 1 log, 3 kindling
-                        int logs = 0, kindling = 0, soulFire = 0;
-
-                        for (ItemEntity drop : entities)
-                        {
-                            ItemStack dropStack = drop.getItem();
-                            if (Helpers.isItem(dropStack.getItem(), ModTags.Items.FIRE_STARTER_LOGS))
-                            {
-                                logs += dropStack.getCount();
-                                logEntities.add(drop);
-                            }
-                            else if (Helpers.isItem(dropStack.getItem(), ModTags.Items.FIRE_STARTER_KINDLING))
-                            {
-                                kindling += dropStack.getCount();
-                                kindlingEntities.add(drop);
-                            }
-                            else if (Helpers.isItem(dropStack.getItem(), ModTags.Items.FIRE_STARTER_SOUL_FIRE_CATALYST))
-                            {
-                                soulFire += dropStack.getCount();
-                                soulFireEntities.add(drop);
-                            }
-                        }
+                        final FireStarterIngredients ingredients = FireStarterIngredients.find((ServerLevel) level, pos, Config.INSTANCE.fireStarterCanMakeSoulCampfire.getAsBoolean());
                         final boolean canMakeCampfire = Config.INSTANCE.fireStarterCanMakeCampfire.getAsBoolean();
-                        final boolean canMakeSoulCampfire = Config.INSTANCE.fireStarterCanMakeSoulCampfire.getAsBoolean() && soulFire >= 1;
-                        if (logs >= 1 && kindling >= 3 && (canMakeCampfire || canMakeSoulCampfire))
+                        final boolean canMakeSoulCampfire = Config.INSTANCE.fireStarterCanMakeSoulCampfire.getAsBoolean() && ingredients.hasSoulFireCatalyst();
+                        if (ingredients.hasCampfire() && (canMakeCampfire || canMakeSoulCampfire))
                         {
-                            removeItems(logEntities, 1);
-                            removeItems(kindlingEntities, 3);
-
-                            Block resultBlock = Blocks.CAMPFIRE;
-                            if (canMakeSoulCampfire)
-                            {
-                                resultBlock = Blocks.SOUL_CAMPFIRE;
-                                removeItems(soulFireEntities, 1);
-                            }
+                            ingredients.consume(canMakeSoulCampfire);
 
+                            final Block resultBlock = canMakeSoulCampfire ? Blocks.SOUL_CAMPFIRE : Blocks.CAMPFIRE;
                             level.setBlockAndUpdate(pos.above(), resultBlock.defaultBlockState().setValue(CampfireBlock.LIT, true));
                         }
                         else
@@ -130,6 +103,15 @@ public class FireStarterItem extends TieredItem
         return stack;
     }
 
+    @Override
+    public void releaseUsing(ItemStack stack, Level level, LivingEntity entity, int remainingTicks)
+    {
+        if (level.isClientSide)
+        {
+            UseSession.clear();
+        }
+    }
+
     @Override
     public UseAnim getUseAnimation(ItemStack stack)
     {
@@ -145,13 +127,10 @@ public class FireStarterItem extends TieredItem
     @Override
     public void onUseTick(Level level, LivingEntity entity, ItemStack stack, int remainingTicks)
     {
-        if (level.isClientSide && entity instanceof Player player)
+        if (level.isClientSide && entity instanceof Player player && player.level().getRandom().nextInt(5) == 0)
         {
-            BlockHitResult result = getPlayerPOVHitResult(player.level(), player, ClipContext.Fluid.NONE);
-            if (player.level().getRandom().nextInt(5) == 0)
-            {
-                player.level().addParticle(ParticleTypes.SMOKE, result.getLocation().x, result.getLocation().y, result.getLocation().z, 0.0F, 0.1F, 0.0F);
-            }
+            final BlockHitResult result = UseSession.hitResult(player);
+            player.level().addParticle(ParticleTypes.SMOKE, result.getLocation().x, result.getLocation().y, result.getLocation().z, 0.0F, 0.1F, 0.0F);
         }
     }
 
@@ -161,18 +140,65 @@ public class FireStarterItem extends TieredItem
         return enchantment.category == EnchantmentCategory.BREAKABLE;
     }
 
-    private void removeItems(List<ItemEntity> itemEntities, int removeAmount)
+    /**
+     * The most recent hit result of the local player while using a fire starter, which is only recomputed when the player has moved, or looked around, or the block that was hit has changed, since.
+     * The session is cleared when use stops, and otherwise only holds the player weakly, so it never keeps a disconnected player or their level alive.
+     * Only accessed from the client thread.
+     */
+    static final class UseSession
     {
-        for (ItemEntity logEntity : itemEntities)
+        private static final double MAX_MOVEMENT_SQR = 0.01 * 0.01;
+        private static final float MAX_ROTATION = 0.5f;
+
+        private static @Nullable UseSession current = null;
+
+        static BlockHitResult hitResult(Player player)
         {
-            ItemStack logStack = logEntity.getItem();
-            int shrink = Math.min(logStack.getCount(), removeAmount);
-            removeAmount -= shrink;
-            logStack.shrink(shrink);
-            if (logStack.getCount() == 0)
+            UseSession session = current;
+            if (session == null || !session.isValidFor(player))
             {
-                logEntity.remove(Entity.RemovalReason.KILLED);
+                session = new UseSession(player, getPlayerPOVHitResult(player.level(), player, ClipContext.Fluid.NONE));
+                current = session;
             }
+            return session.result;
+        }
+
+        static void clear()
+        {
+            current = null;
+        }
+
+        private final WeakReference<Player> player;
+        private final WeakReference<Level> level;
+        private final Vec3 eyePosition;
+        private final float xRot, yRot;
+        private final BlockHitResult result;
+        private final @Nullable BlockState hitState;
+
+        UseSession(Player player, BlockHitResult result)
+        {
+            this.player = new WeakReference<>(player);
+            this.level = new WeakReference<>(player.level());
+            this.eyePosition = player.getEyePosition();
+            this.xRot = player.getXRot();
+            this.yRot = player.getYRot();
+            this.result = result;
+            this.hitState = result.getType() == HitResult.Type.BLOCK ? player.level().getBlockState(result.getBlockPos()) : null;
+        }
+
+        boolean isValidFor(Player player)
+        {
+            return this.player.get() == player
+                && level.get() == player.level()
+                && !hasMoved(player)
+                && (hitState == null || player.level().getBlockState(result.getBlockPos()) == hitState);
+        }
+
+        boolean hasMoved(Player player)
+        {
+            return player.getEyePosition().distanceToSqr(eyePosition) > MAX_MOVEMENT_SQR
+                || Math.abs(player.getXRot() - xRot) > MAX_ROTATION
+                || Math.abs(player.getYRot() - yRot) > MAX_ROTATION;
         }
     }
-}
\ No newline at end of file
+}
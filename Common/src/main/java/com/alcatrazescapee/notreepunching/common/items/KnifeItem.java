@@ -26,6 +26,7 @@ import com.alcatrazescapee.notreepunching.platform.Platform;
 import com.alcatrazescapee.notreepunching.platform.PlatformOverride;
 import com.alcatrazescapee.notreepunching.util.SharpToolUtil;
 import com.alcatrazescapee.notreepunching.util.ToolDamageUtil;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 public class KnifeItem extends SwordItem
 {
@@ -193,6 +194,7 @@ public class KnifeItem extends SwordItem
                     LOGGER.debug("KnifeItem.mineBlock() calculated damage amount: {}", damageAmount);
                 }
                 ToolDamageUtil.damageToolSafely(stack, entity, damageAmount, InteractionHand.MAIN_HAND);
+                Metrics.KNIFE_DAMAGE.increment();
                 if (ForgeConfig.enableSharpToolDebugLogging.get())
                 {
                     LOGGER.debug("KnifeItem.mineBlock() tool damage applied");
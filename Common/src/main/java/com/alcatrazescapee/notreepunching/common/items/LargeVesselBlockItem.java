@@ -12,9 +12,7 @@ import net.minecraft.world.level.block.Block;
 import org.jetbrains.annotations.Nullable;
 
 import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
-import com.alcatrazescapee.notreepunching.util.Helpers;
-import com.alcatrazescapee.notreepunching.util.inventory.ItemStackInventory;
-import com.alcatrazescapee.notreepunching.util.inventory.ItemStackListInventory;
+import com.alcatrazescapee.notreepunching.util.inventory.InventoryTooltipCache;
 
 public class LargeVesselBlockItem extends BlockItem
 {
@@ -29,9 +27,7 @@ public class LargeVesselBlockItem extends BlockItem
         final CompoundTag rootTag = stack.getTag();
         if (rootTag != null && rootTag.contains("BlockEntityTag", Tag.TAG_COMPOUND))
         {
-            final CompoundTag blockEntityTag = rootTag.getCompound("BlockEntityTag");
-            final ItemStackInventory inventory = ItemStackListInventory.create(LargeVesselBlockEntity.SLOTS, blockEntityTag);
-            Helpers.addInventoryTooltip(inventory, tooltip);
+            InventoryTooltipCache.addTooltip(rootTag.getCompound("BlockEntityTag"), LargeVesselBlockEntity.SLOTS, tooltip);
         }
     }
 }
\ No newline at end of file
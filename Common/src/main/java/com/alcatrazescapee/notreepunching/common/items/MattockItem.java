@@ -2,14 +2,56 @@ package com.alcatrazescapee.notreepunching.common.items;
 
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.item.DiggerItem;
+import net.minecraft.world.item.HoneycombItem;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.Tier;
 import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.CampfireBlock;
+import net.minecraft.world.level.block.WeatheringCopper;
 
 import com.alcatrazescapee.notreepunching.common.ModTags;
+import com.alcatrazescapee.notreepunching.mixin.AxeItemAccessor;
+import com.alcatrazescapee.notreepunching.mixin.HoeItemAccessor;
+import com.alcatrazescapee.notreepunching.mixin.ShovelItemAccessor;
 
 public class MattockItem extends DiggerItem
 {
+    private static final int AXE = 1, SHOVEL = 2, HOE = 4;
+    private static final int[] ORDER = {AXE, SHOVEL, HOE}, SNEAKING_ORDER = {AXE, HOE, SHOVEL};
+
+    /**
+     * The actions which vanilla expects to apply to {@code block}, from the strip (and scrape, and wax off), flatten (and extinguish), and till tables.
+     * Other mods may add actions to any block, so this is only used to decide which actions to try first.
+     */
+    private static int likelyActions(Block block)
+    {
+        int actions = 0;
+        if (AxeItemAccessor.getStrippables().containsKey(block) || WeatheringCopper.getPrevious(block).isPresent() || HoneycombItem.WAX_OFF_BY_BLOCK.get().containsKey(block))
+        {
+            actions |= AXE;
+        }
+        if (ShovelItemAccessor.getFlattenables().containsKey(block) || block instanceof CampfireBlock)
+        {
+            actions |= SHOVEL;
+        }
+        if (HoeItemAccessor.getTillables().containsKey(block))
+        {
+            actions |= HOE;
+        }
+        return actions;
+    }
+
+    private static InteractionResult onItemUse(int action, UseOnContext context)
+    {
+        return switch (action)
+        {
+            case AXE -> onAxeItemUse(context);
+            case SHOVEL -> onShovelItemUse(context);
+            default -> onHoeItemUse(context);
+        };
+    }
+
     private static InteractionResult onAxeItemUse(UseOnContext context)
     {
         return Items.DIAMOND_AXE.useOn(context);
@@ -34,30 +76,27 @@ public class MattockItem extends DiggerItem
      * If not sneaking, use in order of Axe -> Shovel -> Hoe
      * Otherwise, use in order of Axe -> Hoe -> Shovel
      * This is done as hoe and shovel have a possibility of conflicting (within vanilla)
+     * The actions that vanilla expects to apply to the targeted block are tried first, and then the rest, as they may have been added by other mods.
      */
     @Override
     public InteractionResult useOn(UseOnContext context)
     {
-        InteractionResult result = onAxeItemUse(context);
-        if (result == InteractionResult.PASS)
+        final int likely = likelyActions(context.getLevel().getBlockState(context.getClickedPos()).getBlock());
+        final int[] order = context.getPlayer() != null && context.getPlayer().isShiftKeyDown() ? SNEAKING_ORDER : ORDER;
+        for (int pass = 0; pass < 2; pass++)
         {
-            if (context.getPlayer() != null && context.getPlayer().isShiftKeyDown())
-            {
-                result = onHoeItemUse(context);
-                if (result == InteractionResult.PASS)
-                {
-                    result = onShovelItemUse(context);
-                }
-            }
-            else
+            for (int action : order)
             {
-                result = onShovelItemUse(context);
-                if (result == InteractionResult.PASS)
+                if (((likely & action) != 0) == (pass == 0))
                 {
-                    result = onHoeItemUse(context);
+                    final InteractionResult result = onItemUse(action, context);
+                    if (result != InteractionResult.PASS)
+                    {
+                        return result;
+                    }
                 }
             }
         }
-        return result;
+        return InteractionResult.PASS;
     }
-}
\ No newline at end of file
+}
@@ -32,7 +32,7 @@ public final class ModItems
     public static final RegistryHolder<Item> GRASS_STRING = register("plant_string");
     public static final RegistryHolder<Item> CLAY_BRICK = register("clay_brick");
 
-    public static final RegistryHolder<SmallVesselItem> CERAMIC_SMALL_VESSEL = register("ceramic_small_vessel", SmallVesselItem::new);
+    public static final RegistryHolder<SmallVesselItem> CERAMIC_SMALL_VESSEL = register("ceramic_small_vessel", XPlatform.INSTANCE::smallVesselItem);
     public static final RegistryHolder<CeramicBucketItem> CERAMIC_BUCKET = register("ceramic_bucket", () -> bucket(Fluids.EMPTY, new Item.Properties().stacksTo(1)));
     public static final RegistryHolder<CeramicBucketItem> CERAMIC_WATER_BUCKET = register("ceramic_water_bucket", () -> bucket(Fluids.WATER, new Item.Properties().stacksTo(1).craftRemainder(CERAMIC_BUCKET.get())));
 
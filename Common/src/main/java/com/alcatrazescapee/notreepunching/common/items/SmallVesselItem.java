@@ -19,6 +19,7 @@ import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.common.container.SmallVesselContainer;
 import com.alcatrazescapee.notreepunching.platform.XPlatform;
 import com.alcatrazescapee.notreepunching.util.Helpers;
+import com.alcatrazescapee.notreepunching.util.inventory.InventoryTooltipCache;
 import com.alcatrazescapee.notreepunching.util.inventory.ItemStackAttachedInventory;
 
 public class SmallVesselItem extends Item
@@ -52,8 +53,7 @@ public class SmallVesselItem extends Item
         final CompoundTag tag = stack.getTag();
         if (tag != null)
         {
-            final ItemStackAttachedInventory inventory = INVENTORY.create(stack);
-            Helpers.addInventoryTooltip(inventory, tooltip);
+            InventoryTooltipCache.addTooltip(tag, SLOTS, tooltip);
         }
     }
 }
\ No newline at end of file
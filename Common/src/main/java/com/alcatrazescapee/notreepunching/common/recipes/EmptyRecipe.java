@@ -13,6 +13,7 @@ import net.minecraft.world.level.Level;
 
 /**
  * A no-op recipe implementation, used to remove recipes platform independently.
+ * These are deleted from the recipe manager once loaded, by {@link ModRecipes#removeEmptyRecipes}, so they are never synced to clients.
  */
 public record EmptyRecipe(ResourceLocation id) implements Recipe<Container>
 {
@@ -11,13 +11,13 @@ import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.mixin.RecipeManagerAccessor;
 import com.alcatrazescapee.notreepunching.util.Helpers;
+import com.alcatrazescapee.notreepunching.util.jfr.RecipeInjectionEvent;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.ReloadableServerResources;
 import net.minecraft.tags.ItemTags;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.CraftingBookCategory;
@@ -44,6 +44,48 @@ public class ModRecipes
     public static final RegistryHolder<RecipeSerializer<?>> EMPTY_SERIALIZER = RECIPE_SERIALIZERS.register("empty", () -> XPlatform.INSTANCE.recipeSerializer(EmptyRecipe.Serializer.INSTANCE));
     public static final RegistryHolder<RecipeType<?>> EMPTY_TYPE = RECIPE_TYPES.register("empty", () -> new RecipeType<>() {});
 
+    private static volatile Set<ResourceLocation> removedRecipes = Set.of();
+
+    /**
+     * @return The ids of every recipe removed by an {@link EmptyRecipe}, as of the last reload.
+     */
+    public static Set<ResourceLocation> removedRecipes()
+    {
+        return removedRecipes;
+    }
+
+    /**
+     * Deletes the {@link EmptyRecipe} placeholders, which are only used to replace (and so remove) other recipes, and records their ids.
+     * This means they are not synced to clients, or indexed by the recipe book, as they would be if left in the recipe manager.
+     */
+    public static void removeEmptyRecipes(ReloadableServerResources resources)
+    {
+        final RecipeInjectionEvent event = new RecipeInjectionEvent();
+        event.begin();
+
+        final RecipeManagerAccessor recipeManager = (RecipeManagerAccessor) resources.getRecipeManager();
+        final Map<ResourceLocation, Recipe<?>> empty = recipeManager.accessor$getRecipes().get(EMPTY_TYPE.get());
+        if (empty == null || empty.isEmpty())
+        {
+            removedRecipes = Set.of();
+            RecipeInjectionEvent.commit(event, RecipeInjectionEvent.REMOVE_EMPTY, 0);
+            return;
+        }
+
+        // Mutability hacks
+        final Map<RecipeType<?>, Map<ResourceLocation, Recipe<?>>> recipes = new HashMap<>(recipeManager.accessor$getRecipes());
+        final Map<ResourceLocation, Recipe<?>> byName = new HashMap<>(recipeManager.accessor$getByName());
+
+        recipes.remove(EMPTY_TYPE.get());
+        byName.keySet().removeAll(empty.keySet());
+
+        recipeManager.accessor$setRecipes(recipes);
+        recipeManager.accessor$setByName(byName);
+
+        removedRecipes = Set.copyOf(empty.keySet());
+        RecipeInjectionEvent.commit(event, RecipeInjectionEvent.REMOVE_EMPTY, empty.size());
+    }
+
     /**
      * @deprecated Use {@link RecipeInjectionHandler#injectRecipes(RecipeManager, RegistryAccess)} instead.
      * This method directly mutates RecipeManager internals unsafely and will be removed.
@@ -53,12 +95,17 @@ public class ModRecipes
     {
         if (!Config.INSTANCE.enableDynamicRecipeReplacement.getAsBoolean()) return;
 
+        final RecipeInjectionEvent gatherEvent = new RecipeInjectionEvent();
+        gatherEvent.begin();
+
         final Set<Item> logItems = new HashSet<>();
         final Set<Item> plankItems = new HashSet<>();
 
         BuiltInRegistries.ITEM.getTagOrEmpty(ItemTags.LOGS).forEach(holder -> logItems.add(holder.value()));
         BuiltInRegistries.ITEM.getTagOrEmpty(ItemTags.PLANKS).forEach(holder -> plankItems.add(holder.value()));
 
+        RecipeInjectionEvent.commit(gatherEvent, RecipeInjectionEvent.GATHER_TAGS, logItems.size() + plankItems.size());
+
         final RecipeManagerAccessor recipeManager = (RecipeManagerAccessor) resources.getRecipeManager();
 
         // Mutability hacks
@@ -71,8 +118,15 @@ public class ModRecipes
         final Map<ResourceLocation, Recipe<?>> crafting = new HashMap<>(recipes.get(RecipeType.CRAFTING));
         recipes.put(RecipeType.CRAFTING, crafting);
 
+        final RecipeInjectionEvent generateEvent = new RecipeInjectionEvent();
+        generateEvent.begin();
+
         final List<Recipe<?>> injectedRecipes = new ArrayList<>();
 
+        // Shared by every generated recipe, both in the pattern and as the tool, so the tag is only resolved into items once
+        final Ingredient saws = Ingredient.of(ModTags.Items.SAWS);
+        final Ingredient weakSaws = Ingredient.of(ModTags.Items.WEAK_SAWS);
+
         for (Recipe<?> recipe : crafting.values())
         {
             if (recipe.getSerializer() != RecipeSerializer.SHAPED_RECIPE && recipe.getSerializer() != RecipeSerializer.SHAPELESS_RECIPE) continue; // Only pure shaped + shapeless recipes
@@ -94,25 +148,36 @@ public class ModRecipes
             // This avoids any dangling references to the original recipe ID
             // The other one we just add in our namespace
 
-            injectedRecipes.add(sawLogToPlankRecipe(recipe.getId(), ModTags.Items.SAWS, log, plank, 4));
-            injectedRecipes.add(sawLogToPlankRecipe(Helpers.identifier("generated/%s_%s".formatted(plankName.getNamespace(), plankName.getPath())), ModTags.Items.WEAK_SAWS, log, plank, 2));
+            injectedRecipes.add(sawLogToPlankRecipe(recipe.getId(), saws, log, plank, 4));
+            injectedRecipes.add(sawLogToPlankRecipe(Helpers.identifier("generated/%s_%s".formatted(plankName.getNamespace(), plankName.getPath())), weakSaws, log, plank, 2));
         }
 
+        RecipeInjectionEvent.commit(generateEvent, RecipeInjectionEvent.GENERATE, injectedRecipes.size());
+
+        final RecipeInjectionEvent insertEvent = new RecipeInjectionEvent();
+        insertEvent.begin();
+
         for (Recipe<?> recipe : injectedRecipes)
         {
             byName.put(recipe.getId(), recipe);
             crafting.put(recipe.getId(), recipe);
         }
+
+        RecipeInjectionEvent.commit(insertEvent, RecipeInjectionEvent.INSERT, injectedRecipes.size());
     }
 
-    private static Recipe<?> sawLogToPlankRecipe(ResourceLocation id, TagKey<Item> saw, Ingredient log, Item plank, int count)
+    /**
+     * Creates a recipe for sawing {@code log} into {@code count} of {@code plank}.
+     * {@code saw} is used both in the pattern and as the tool, and should be shared between all recipes generated at once, along with {@code log}, which is shared with the original recipe. Only the pattern and result are unique to each recipe.
+     */
+    public static Recipe<?> sawLogToPlankRecipe(ResourceLocation id, Ingredient saw, Ingredient log, Item plank, int count)
     {
         return XPlatform.INSTANCE.shapedToolDamagingRecipe(
             id,
             new ShapedRecipe(id, "", CraftingBookCategory.BUILDING, 1, 2, NonNullList.of(
                 Ingredient.EMPTY,
-                Ingredient.of(saw),
+                saw,
                 log
-            ), new ItemStack(plank, count)), Ingredient.of(saw));
+            ), new ItemStack(plank, count)), saw);
     }
 }
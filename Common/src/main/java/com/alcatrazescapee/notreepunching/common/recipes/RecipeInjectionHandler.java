@@ -9,21 +9,17 @@ import java.util.Map;
 import java.util.Set;
 
 import com.mojang.logging.LogUtils;
-import net.minecraft.core.NonNullList;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.ItemTags;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.CraftingBookCategory;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
-import net.minecraft.world.item.crafting.ShapedRecipe;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -32,8 +28,8 @@ import org.slf4j.Logger;
 import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.NoTreePunching;
 import com.alcatrazescapee.notreepunching.common.ModTags;
-import com.alcatrazescapee.notreepunching.platform.XPlatform;
 import com.alcatrazescapee.notreepunching.util.Helpers;
+import com.alcatrazescapee.notreepunching.util.jfr.RecipeInjectionEvent;
 
 /**
  * Safe recipe injection system using proper Forge events instead of unsafe mixin approach.
@@ -92,7 +88,10 @@ public final class RecipeInjectionHandler
                 return;
             }
 
+            final RecipeInjectionEvent event = new RecipeInjectionEvent();
+            event.begin();
             final List<Recipe<?>> newRecipes = generateSawingRecipes(recipeManager, registryAccess, logItems, plankItems);
+            RecipeInjectionEvent.commit(event, RecipeInjectionEvent.GENERATE, newRecipes.size());
             
             if (newRecipes.isEmpty())
             {
@@ -119,6 +118,10 @@ public final class RecipeInjectionHandler
     {
         final List<Recipe<?>> injectedRecipes = new ArrayList<>();
 
+        // Shared by every generated recipe, both in the pattern and as the tool
+        final Ingredient saws = Ingredient.of(ModTags.Items.SAWS);
+        final Ingredient weakSaws = Ingredient.of(ModTags.Items.WEAK_SAWS);
+
         // Safely iterate through existing recipes with error handling
         try
         {
@@ -149,10 +152,10 @@ public final class RecipeInjectionHandler
                 try
                 {
                     // Create saw recipe (4 planks)
-                    injectedRecipes.add(createSawLogToPlankRecipe(sawRecipeId, ModTags.Items.SAWS, log, plank, 4));
+                    injectedRecipes.add(createSawLogToPlankRecipe(sawRecipeId, saws, log, plank, 4));
                     
                     // Create weak saw recipe (2 planks)
-                    injectedRecipes.add(createSawLogToPlankRecipe(weakSawRecipeId, ModTags.Items.WEAK_SAWS, log, plank, 2));
+                    injectedRecipes.add(createSawLogToPlankRecipe(weakSawRecipeId, weakSaws, log, plank, 2));
                 }
                 catch (Exception e)
                 {
@@ -171,18 +174,11 @@ public final class RecipeInjectionHandler
     /**
      * Create a saw recipe with proper error handling and validation.
      */
-    private static Recipe<?> createSawLogToPlankRecipe(ResourceLocation id, TagKey<Item> saw, Ingredient log, Item plank, int count)
+    private static Recipe<?> createSawLogToPlankRecipe(ResourceLocation id, Ingredient saw, Ingredient log, Item plank, int count)
     {
         try
         {
-            return XPlatform.INSTANCE.shapedToolDamagingRecipe(
-                id,
-                new ShapedRecipe(id, "", CraftingBookCategory.BUILDING, 1, 2, NonNullList.of(
-                    Ingredient.EMPTY,
-                    Ingredient.of(saw),
-                    log
-                ), new ItemStack(plank, count)), 
-                Ingredient.of(saw));
+            return ModRecipes.sawLogToPlankRecipe(id, saw, log, plank, count);
         }
         catch (Exception e)
         {
@@ -1,5 +1,6 @@
 package com.alcatrazescapee.notreepunching.common.recipes;
 
+import java.util.BitSet;
 import java.util.Optional;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Function3;
@@ -15,6 +16,7 @@ import net.minecraft.world.item.crafting.CraftingRecipe;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
 import com.alcatrazescapee.notreepunching.platform.XPlatform;
@@ -27,11 +29,26 @@ public abstract class ToolDamagingRecipe implements DelegateRecipe<CraftingConta
     private final Recipe<?> recipe;
     private @Nullable final Ingredient tool;
 
+    // The items accepted as the tool, as of the index generation they were looked up in
+    private @Nullable BitSet toolItems;
+    private int toolItemsGeneration;
+
     protected ToolDamagingRecipe(ResourceLocation id, Recipe<?> recipe, @Nullable Ingredient tool)
     {
         this.id = id;
         this.recipe = recipe;
         this.tool = tool;
+        this.toolItems = null;
+        this.toolItemsGeneration = -1;
+    }
+
+    /**
+     * Every crafting recipe is matched on every change to a crafting grid, so a grid without any tool this recipe accepts is rejected with an index lookup per slot, before matching the delegate recipe.
+     */
+    @Override
+    public boolean matches(CraftingContainer container, Level level)
+    {
+        return ToolItemIndex.containsAny(container, toolItems()) && DelegateRecipe.super.matches(container, level);
     }
 
     @Override
@@ -81,6 +98,15 @@ public abstract class ToolDamagingRecipe implements DelegateRecipe<CraftingConta
         return id;
     }
 
+    /**
+     * @return The ingredient for the tool damaged by this recipe, or {@code null} if any damageable item is.
+     */
+    @Nullable
+    public Ingredient getTool()
+    {
+        return tool;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Recipe<CraftingContainer> delegate()
@@ -94,6 +120,19 @@ public abstract class ToolDamagingRecipe implements DelegateRecipe<CraftingConta
         return CraftingBookCategory.MISC;
     }
 
+    private BitSet toolItems()
+    {
+        final int generation = ToolItemIndex.generation();
+        BitSet items = toolItems;
+        if (items == null || toolItemsGeneration != generation)
+        {
+            items = ToolItemIndex.itemsOf(tool);
+            toolItems = items;
+            toolItemsGeneration = generation;
+        }
+        return items;
+    }
+
     public static class Shaped extends ToolDamagingRecipe
     {
         public Shaped(ResourceLocation id, Recipe<?> recipe, @Nullable Ingredient tool)
@@ -0,0 +1,90 @@
+package com.alcatrazescapee.notreepunching.common.recipes;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The items accepted as the tool of each {@link ToolDamagingRecipe}, indexed by item registry id, so that a crafting grid with no tool in it is rejected before the delegate recipe is matched.
+ * <ul>
+ *     <li>Recipes with equal tool ingredients (i.e. every generated saw recipe) share a single set of items, keyed by the ingredient's item ids.</li>
+ *     <li>Recipes without a tool ingredient accept any damageable item.</li>
+ *     <li>The index is cleared whenever tags are (re)loaded, as tool ingredients are typically tags. Each recipe checks {@link #generation()} to know when to look up its items again.</li>
+ * </ul>
+ */
+public final class ToolItemIndex
+{
+    private static final Map<IntList, BitSet> ITEMS = new ConcurrentHashMap<>();
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+    private static volatile @Nullable BitSet damageableItems = null;
+
+    /**
+     * Called when tags are loaded or synced.
+     */
+    public static void rebuild()
+    {
+        ITEMS.clear();
+        damageableItems = null;
+        GENERATION.incrementAndGet();
+    }
+
+    public static int generation()
+    {
+        return GENERATION.get();
+    }
+
+    /**
+     * @return The ids of every item accepted by {@code tool}, or of every damageable item if there is no tool ingredient.
+     */
+    public static BitSet itemsOf(@Nullable Ingredient tool)
+    {
+        if (tool == null)
+        {
+            BitSet items = damageableItems;
+            if (items == null)
+            {
+                items = new BitSet(BuiltInRegistries.ITEM.size());
+                for (Item item : BuiltInRegistries.ITEM)
+                {
+                    if (item.canBeDepleted())
+                    {
+                        items.set(BuiltInRegistries.ITEM.getId(item));
+                    }
+                }
+                damageableItems = items;
+            }
+            return items;
+        }
+        return ITEMS.computeIfAbsent(tool.getStackingIds(), ids -> {
+            final BitSet items = new BitSet(BuiltInRegistries.ITEM.size());
+            ids.forEach(items::set);
+            return items;
+        });
+    }
+
+    /**
+     * @return {@code true} if any stack in {@code container} is one of {@code items}.
+     */
+    public static boolean containsAny(CraftingContainer container, BitSet items)
+    {
+        for (int slot = 0; slot < container.getContainerSize(); slot++)
+        {
+            final ItemStack stack = container.getItem(slot);
+            if (!stack.isEmpty() && items.get(BuiltInRegistries.ITEM.getId(stack.getItem())))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ToolItemIndex() {}
+}
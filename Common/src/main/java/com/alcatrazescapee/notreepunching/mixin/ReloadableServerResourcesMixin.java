@@ -17,6 +17,7 @@ public abstract class ReloadableServerResourcesMixin
     @Inject(method = "updateRegistryTags(Lnet/minecraft/core/RegistryAccess;)V", at = @At("RETURN"))
     private void afterLoadTagsOnServer(RegistryAccess registryAccess, CallbackInfo ci)
     {
+        ModRecipes.removeEmptyRecipes((ReloadableServerResources) (Object) this);
         ModRecipes.injectRecipes((ReloadableServerResources) (Object) this, registryAccess);
     }
 }
@@ -31,8 +31,10 @@ import net.minecraft.world.level.material.Fluid;
 import org.jetbrains.annotations.Nullable;
 
 import com.alcatrazescapee.notreepunching.Config;
+import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
 import com.alcatrazescapee.notreepunching.common.items.CeramicBucketItem;
 import com.alcatrazescapee.notreepunching.common.items.MattockItem;
+import com.alcatrazescapee.notreepunching.common.items.SmallVesselItem;
 import com.alcatrazescapee.notreepunching.common.recipes.RecipeSerializerImpl;
 import com.alcatrazescapee.notreepunching.common.recipes.ToolDamagingRecipe;
 import com.alcatrazescapee.notreepunching.platform.event.BlockEntityFactory;
@@ -64,6 +66,11 @@ public interface XPlatform
         return new CeramicBucketItem(fluid, properties);
     }
 
+    default SmallVesselItem smallVesselItem()
+    {
+        return new SmallVesselItem();
+    }
+
     default MattockItem mattockItem(Tier tier, float attackDamage, float attackSpeed, Item.Properties properties)
     {
         return new MattockItem(tier, attackDamage, attackSpeed, properties);
@@ -76,6 +83,11 @@ public interface XPlatform
 
     <T extends BlockEntity> BlockEntityType<T> blockEntityType(BlockEntityFactory<T> factory, Supplier<? extends Block> block);
 
+    default LargeVesselBlockEntity largeVesselBlockEntity(BlockPos pos, BlockState state)
+    {
+        return new LargeVesselBlockEntity(pos, state);
+    }
+
     <T extends AbstractContainerMenu> MenuType<T> containerType(ContainerFactory<T> factory);
 
     default ToolDamagingRecipe shapedToolDamagingRecipe(ResourceLocation id, Recipe<?> recipe, @Nullable Ingredient tool)
@@ -2,14 +2,11 @@ package com.alcatrazescapee.notreepunching.util;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.BooleanSupplier;
-import java.util.function.Supplier;
 
 import com.mojang.logging.LogUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Block;
@@ -18,7 +15,6 @@ import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
-import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.ForgeConfig;
 import com.alcatrazescapee.notreepunching.NoTreePunching;
 import com.alcatrazescapee.notreepunching.common.ModTags;
@@ -26,6 +22,9 @@ import com.alcatrazescapee.notreepunching.mixin.AbstractBlockAccessor;
 import com.alcatrazescapee.notreepunching.mixin.AbstractBlockStateAccessor;
 import com.alcatrazescapee.notreepunching.util.SharpToolUtil;
 import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.util.jfr.HarvestCheckEvent;
+import com.alcatrazescapee.notreepunching.util.jfr.HarvestSetupEvent;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 
 public final class HarvestBlockHandler
@@ -39,6 +38,9 @@ public final class HarvestBlockHandler
      */
     public static void setup()
     {
+        final HarvestSetupEvent event = new HarvestSetupEvent();
+        event.begin();
+
         int vanillaBlocksModified = 0;
         int moddedBlocksSkipped = 0;
         int totalBlocks = 0;
@@ -81,6 +83,15 @@ public final class HarvestBlockHandler
             }
         }
         
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.totalBlocks = totalBlocks;
+            event.processedBlocks = blocksToProcess.size();
+            event.modifiedBlocks = vanillaBlocksModified;
+            event.commit();
+        }
+
         LOGGER.info("Block harvest setup complete: {} blocks modified successfully", vanillaBlocksModified);
     }
 
@@ -166,9 +177,10 @@ public final class HarvestBlockHandler
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectToolToMine() - Block: %s", DebugUtil.getBlockInfo(state, pos));
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectToolToMine() - Tool: %s", DebugUtil.getDetailedToolInfo(player.getMainHandItem()));
             
-            boolean result = isUsingCorrectTool(state, pos, player, ModTags.Blocks.ALWAYS_BREAKABLE, 
-                                              () -> Config.INSTANCE.doBlocksMineWithoutCorrectTool.getAsBoolean(), 
-                                              () -> Config.INSTANCE.doInstantBreakBlocksMineWithoutCorrectTool.getAsBoolean(), 
+            final HarvestTable table = HarvestTable.get(player.level());
+            boolean result = isUsingCorrectTool(state, pos, player, table, HarvestTable.ALWAYS_BREAKABLE, 
+                                              table.blocksMineWithoutCorrectTool(), 
+                                              table.instantBreakBlocksMineWithoutCorrectTool(), 
                                               true);
             
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectToolToMine() - isUsingCorrectTool returned: %s", result);
@@ -194,9 +206,10 @@ public final class HarvestBlockHandler
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectToolForDrops() - Block: %s", DebugUtil.getBlockInfo(state, pos));
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectToolForDrops() - Tool: %s", DebugUtil.getDetailedToolInfo(player.getMainHandItem()));
             
-            boolean result = isUsingCorrectTool(state, pos, player, ModTags.Blocks.ALWAYS_DROPS, 
-                                              () -> Config.INSTANCE.doBlocksDropWithoutCorrectTool.getAsBoolean(), 
-                                              () -> Config.INSTANCE.doInstantBreakBlocksDropWithoutCorrectTool.getAsBoolean(), 
+            final HarvestTable table = HarvestTable.get(player.level());
+            boolean result = isUsingCorrectTool(state, pos, player, table, HarvestTable.ALWAYS_DROPS, 
+                                              table.blocksDropWithoutCorrectTool(), 
+                                              table.instantBreakBlocksDropWithoutCorrectTool(), 
                                               false);
             
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectToolForDrops() - isUsingCorrectTool returned: %s", result);
@@ -212,42 +225,48 @@ public final class HarvestBlockHandler
         }
     }
 
-    private static boolean isUsingCorrectTool(BlockState state, @Nullable BlockPos pos, Player player, TagKey<Block> alwaysAllowTag, Supplier<Boolean> withoutCorrectTool, BooleanSupplier instantBreakBlocksWithoutCorrectTool, boolean checkingCanMine)
+    /**
+     * All config and block tag inputs are read from {@code table}, so the client predicts the same result as the server, which would otherwise correct every block the client mines.
+     */
+    private static boolean isUsingCorrectTool(BlockState state, @Nullable BlockPos pos, Player player, HarvestTable table, int alwaysAllowFlag, boolean withoutCorrectTool, boolean instantBreakBlocksWithoutCorrectTool, boolean checkingCanMine)
     {
         // Create action ID for detailed decision tracking
         String actionId = DebugUtil.startAction(player, state, pos, "CORRECT_TOOL_LOGIC");
+        final long startTime = System.nanoTime();
+        final HarvestCheckEvent event = new HarvestCheckEvent();
+        event.begin();
         
         try
         {
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - Starting decision tree | checkingCanMine=%s", checkingCanMine);
             
             // Check 1: Feature disabled globally
-            boolean featureDisabled = withoutCorrectTool.get();
+            boolean featureDisabled = withoutCorrectTool;
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - Check 1: Feature disabled = %s", featureDisabled);
             if (featureDisabled)
             {
                 DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Feature disabled");
-                return true; // Feature is disabled, always allow
+                return decide(event, startTime, state, player, checkingCanMine, "feature_disabled", true); // Feature is disabled, always allow
             }
 
             // Check 2: Instant break blocks and conditional disable
             final float destroySpeed = getDestroySpeed(state, pos, player);
             boolean isInstantBreak = destroySpeed == 0;
-            boolean instantBreakDisabled = instantBreakBlocksWithoutCorrectTool.getAsBoolean();
+            boolean instantBreakDisabled = instantBreakBlocksWithoutCorrectTool;
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - Check 2: destroySpeed=%.2f, isInstantBreak=%s, instantBreakDisabled=%s", destroySpeed, isInstantBreak, instantBreakDisabled);
             if (isInstantBreak && instantBreakDisabled)
             {
                 DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Instant break disabled");
-                return true; // Feature is conditionally disabled for instant break blocks, always allow
+                return decide(event, startTime, state, player, checkingCanMine, "instant_break", true); // Feature is conditionally disabled for instant break blocks, always allow
             }
 
             // Check 3: Always allow tag
-            boolean isAlwaysAllowed = state.is(alwaysAllowTag);
+            boolean isAlwaysAllowed = table.is(state, alwaysAllowFlag);
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - Check 3: Block in alwaysAllowTag = %s", isAlwaysAllowed);
             if (isAlwaysAllowed)
             {
                 DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Always allow tag");
-                return true; // Block is set to always allow
+                return decide(event, startTime, state, player, checkingCanMine, "always_allow", true); // Block is set to always allow
             }
 
             // Check 4: Vanilla tool correctness
@@ -257,18 +276,18 @@ public final class HarvestBlockHandler
             if (vanillaCorrect)
             {
                 DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Vanilla correct tool");
-                return true; // Tool has already reported itself as the correct tool. This includes a tier check in vanilla.
+                return decide(event, startTime, state, player, checkingCanMine, "vanilla_correct_tool", true); // Tool has already reported itself as the correct tool. This includes a tier check in vanilla.
             }
 
             // Check 5: Sharp tool system
-            boolean isSharpTool = SharpToolUtil.isSharpTool(stack);
-            boolean requiresSharpTool = SharpToolUtil.requiresSharpTool(state);
+            boolean isSharpTool = table.sharpToolSystemEnabled() && SharpToolUtil.isSharpToolItem(stack);
+            boolean requiresSharpTool = table.requiresSharpTool(state);
             boolean sharpToolMatch = isSharpTool && requiresSharpTool;
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - Check 5: Sharp tool system | isSharpTool=%s, requiresSharpTool=%s, match=%s", isSharpTool, requiresSharpTool, sharpToolMatch);
             if (sharpToolMatch)
             {
                 DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Sharp tool match");
-                return true; // Sharp tool can harvest plants that require sharp tools
+                return decide(event, startTime, state, player, checkingCanMine, "sharp_tool", true); // Sharp tool can harvest plants that require sharp tools
             }
 
             // Check 6: Mining speed check (only for canMine checks)
@@ -280,23 +299,23 @@ public final class HarvestBlockHandler
                 if (fasterThanNormal)
                 {
                     DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Faster mining speed");
-                    return true; // Tool reported itself as harvesting faster than normal, in which case when checking if we can *mine* the block, we return true.
+                    return decide(event, startTime, state, player, checkingCanMine, "faster_mining", true); // Tool reported itself as harvesting faster than normal, in which case when checking if we can *mine* the block, we return true.
                 }
             }
 
             // Check 7: Unknown tool requirements
-            boolean isMineable = state.is(ModTags.Blocks.MINEABLE);
+            boolean isMineable = table.is(state, HarvestTable.MINEABLE);
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - Check 7: Block is mineable = %s", isMineable);
             if (!isMineable)
             {
                 DebugUtil.endAction(actionId, true, "HarvestBlockHandler.isUsingCorrectTool - Unknown tool requirements");
-                return true; // If we have no idea what tool can mine this block, we have to return true, as otherwise it's impossible to mine
+                return decide(event, startTime, state, player, checkingCanMine, "unknown_tool", true); // If we have no idea what tool can mine this block, we have to return true, as otherwise it's impossible to mine
             }
 
             // Final result: No conditions met
             DebugUtil.debug(actionId, "HarvestBlockHandler.isUsingCorrectTool() - All checks failed, denying access");
             DebugUtil.endAction(actionId, false, "HarvestBlockHandler.isUsingCorrectTool - All checks failed");
-            return false; // None of our checks have confirmed we can mine this block, so we can't
+            return decide(event, startTime, state, player, checkingCanMine, "none", false); // None of our checks have confirmed we can mine this block, so we can't
         }
         catch (Exception e)
         {
@@ -305,6 +324,20 @@ public final class HarvestBlockHandler
         }
     }
 
+    /**
+     * Records the outcome of a harvest check, by the check which decided it, both as a metric and as a JFR event.
+     * Metrics are server metrics, so client predictions, which also run in the same process on an integrated server, are not recorded.
+     * @return {@code result}
+     */
+    private static boolean decide(HarvestCheckEvent event, long startTime, BlockState state, Player player, boolean checkingCanMine, String check, boolean result)
+    {
+        if (!player.level().isClientSide)
+        {
+            Metrics.harvestCheck(check, System.nanoTime() - startTime);
+        }
+        return HarvestCheckEvent.commit(event, state, player, checkingCanMine, check, result);
+    }
+
     private static float getDestroySpeed(BlockState state, @Nullable BlockPos pos, Player player)
     {
         return pos != null ? state.getDestroySpeed(player.level(), pos) : ((AbstractBlockStateAccessor) state).getDestroySpeed();
@@ -0,0 +1,218 @@
+package com.alcatrazescapee.notreepunching.util;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.util.BitStorage;
+import net.minecraft.util.Mth;
+import net.minecraft.util.SimpleBitStorage;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import com.alcatrazescapee.notreepunching.Config;
+import com.alcatrazescapee.notreepunching.common.ModTags;
+
+/**
+ * The inputs to harvest decisions, which are made on both sides: by the server, for breaking and drops, and by the client, to predict mining. If the two disagree, the server corrects the client for every block it mines.
+ * <ul>
+ *     <li>The harvest options from the config, as a bitmask.</li>
+ *     <li>The tag derived classification of every block state, stored as an index into a palette of the distinct classifications, packed into a {@link BitStorage} by block state id.</li>
+ *     <li>The server computes its table when tags or config are (re)loaded, and sends it to clients on login, on datapack reload, and on config reload. Clients use the server's table while connected, and their own otherwise.</li>
+ * </ul>
+ */
+public final class HarvestTable
+{
+    public static final int ALWAYS_BREAKABLE = 1, ALWAYS_DROPS = 2, MINEABLE = 4, REQUIRES_SHARP_TOOL = 8;
+
+    private static final int BLOCKS_MINE_WITHOUT_CORRECT_TOOL = 1;
+    private static final int INSTANT_BREAK_BLOCKS_MINE_WITHOUT_CORRECT_TOOL = 2;
+    private static final int BLOCKS_DROP_WITHOUT_CORRECT_TOOL = 4;
+    private static final int INSTANT_BREAK_BLOCKS_DROP_WITHOUT_CORRECT_TOOL = 8;
+    private static final int SHARP_TOOL_SYSTEM = 16;
+    private static final int REQUIRE_SHARP_TOOL_FOR_PLANTS = 32;
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static volatile @Nullable HarvestTable local = null;
+    private static volatile @Nullable HarvestTable remote = null;
+
+    /**
+     * @return The table to use for decisions made in {@code level}: the server's table on a client connected to a server, and the local table otherwise.
+     */
+    public static HarvestTable get(Level level)
+    {
+        final HarvestTable table = remote;
+        return level.isClientSide && table != null ? table : local();
+    }
+
+    /**
+     * @return The table computed from this side's config and tags.
+     */
+    public static HarvestTable local()
+    {
+        HarvestTable table = local;
+        if (table == null)
+        {
+            // Computing twice on a race is harmless, as both tables are equivalent
+            table = compute();
+            local = table;
+        }
+        return table;
+    }
+
+    /**
+     * Called when tags or config are (re)loaded. The local table is computed again on next access.
+     */
+    public static void invalidate()
+    {
+        local = null;
+    }
+
+    /**
+     * Called on the client when a table is received from the server, or with {@code null} when disconnecting.
+     */
+    public static void setRemote(@Nullable HarvestTable table)
+    {
+        if (table != null && table.states.getSize() != Block.BLOCK_STATE_REGISTRY.size())
+        {
+            // Block state ids are synced by the platform, so this should not happen, but if it does, the ids cannot be trusted, so only the config is used
+            LOGGER.warn("Received harvest table for {} block states, but there are {}, using local block state classifications", table.states.getSize(), Block.BLOCK_STATE_REGISTRY.size());
+            final HarvestTable localTable = local();
+            table = new HarvestTable(table.config, localTable.palette, localTable.states);
+        }
+        remote = table;
+    }
+
+    public static HarvestTable decode(FriendlyByteBuf buffer)
+    {
+        final int config = buffer.readVarInt();
+        final int[] palette = buffer.readVarIntArray();
+        final int size = buffer.readVarInt();
+        final long[] data = buffer.readLongArray();
+        return new HarvestTable(config, palette, new SimpleBitStorage(bitsFor(palette.length), size, data));
+    }
+
+    static HarvestTable compute()
+    {
+        int config = 0;
+        if (Config.INSTANCE.doBlocksMineWithoutCorrectTool.getAsBoolean()) config |= BLOCKS_MINE_WITHOUT_CORRECT_TOOL;
+        if (Config.INSTANCE.doInstantBreakBlocksMineWithoutCorrectTool.getAsBoolean()) config |= INSTANT_BREAK_BLOCKS_MINE_WITHOUT_CORRECT_TOOL;
+        if (Config.INSTANCE.doBlocksDropWithoutCorrectTool.getAsBoolean()) config |= BLOCKS_DROP_WITHOUT_CORRECT_TOOL;
+        if (Config.INSTANCE.doInstantBreakBlocksDropWithoutCorrectTool.getAsBoolean()) config |= INSTANT_BREAK_BLOCKS_DROP_WITHOUT_CORRECT_TOOL;
+        if (Config.INSTANCE.enableSharpToolSystem.getAsBoolean()) config |= SHARP_TOOL_SYSTEM;
+        if (Config.INSTANCE.requireSharpToolForPlants.getAsBoolean()) config |= REQUIRE_SHARP_TOOL_FOR_PLANTS;
+
+        final int size = Block.BLOCK_STATE_REGISTRY.size();
+        final Int2IntMap paletteIndex = new Int2IntOpenHashMap();
+        final int[] indices = new int[size];
+        for (int id = 0; id < size; id++)
+        {
+            final BlockState state = Block.BLOCK_STATE_REGISTRY.byId(id);
+            final int flags = state == null ? 0 : classify(state);
+            indices[id] = paletteIndex.computeIfAbsent(flags, key -> paletteIndex.size());
+        }
+
+        final int[] palette = new int[paletteIndex.size()];
+        paletteIndex.int2IntEntrySet().forEach(e -> palette[e.getIntValue()] = e.getIntKey());
+
+        final BitStorage states = new SimpleBitStorage(bitsFor(palette.length), size);
+        for (int id = 0; id < size; id++)
+        {
+            states.set(id, indices[id]);
+        }
+        return new HarvestTable(config, palette, states);
+    }
+
+    private static int classify(BlockState state)
+    {
+        int flags = 0;
+        if (state.is(ModTags.Blocks.ALWAYS_BREAKABLE)) flags |= ALWAYS_BREAKABLE;
+        if (state.is(ModTags.Blocks.ALWAYS_DROPS)) flags |= ALWAYS_DROPS;
+        if (state.is(ModTags.Blocks.MINEABLE)) flags |= MINEABLE;
+        if (state.is(ModTags.Blocks.REQUIRES_SHARP_TOOL) || state.is(ModTags.Blocks.PLANT_FIBER_SOURCES) || state.is(BlockTags.SWORD_EFFICIENT)) flags |= REQUIRES_SHARP_TOOL;
+        return flags;
+    }
+
+    private static int bitsFor(int paletteSize)
+    {
+        return Math.max(1, Mth.ceillog2(paletteSize));
+    }
+
+    private final int config;
+    private final int[] palette;
+    private final BitStorage states;
+
+    private HarvestTable(int config, int[] palette, BitStorage states)
+    {
+        this.config = config;
+        this.palette = palette;
+        this.states = states;
+    }
+
+    public void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeVarInt(config);
+        buffer.writeVarIntArray(palette);
+        buffer.writeVarInt(states.getSize());
+        buffer.writeLongArray(states.getRaw());
+    }
+
+    /**
+     * @param flag One of {@link #ALWAYS_BREAKABLE}, {@link #ALWAYS_DROPS}, {@link #MINEABLE}, or {@link #REQUIRES_SHARP_TOOL}.
+     */
+    public boolean is(BlockState state, int flag)
+    {
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        if (id < 0 || id >= states.getSize())
+        {
+            return (classify(state) & flag) != 0;
+        }
+        return (palette[states.get(id)] & flag) != 0;
+    }
+
+    /**
+     * @return {@code true} if {@code state} requires a sharp tool, and that requirement is enabled.
+     */
+    public boolean requiresSharpTool(BlockState state)
+    {
+        return (config & REQUIRE_SHARP_TOOL_FOR_PLANTS) != 0 && is(state, REQUIRES_SHARP_TOOL);
+    }
+
+    public boolean blocksMineWithoutCorrectTool()
+    {
+        return (config & BLOCKS_MINE_WITHOUT_CORRECT_TOOL) != 0;
+    }
+
+    public boolean instantBreakBlocksMineWithoutCorrectTool()
+    {
+        return (config & INSTANT_BREAK_BLOCKS_MINE_WITHOUT_CORRECT_TOOL) != 0;
+    }
+
+    public boolean blocksDropWithoutCorrectTool()
+    {
+        return (config & BLOCKS_DROP_WITHOUT_CORRECT_TOOL) != 0;
+    }
+
+    public boolean instantBreakBlocksDropWithoutCorrectTool()
+    {
+        return (config & INSTANT_BREAK_BLOCKS_DROP_WITHOUT_CORRECT_TOOL) != 0;
+    }
+
+    public boolean sharpToolSystemEnabled()
+    {
+        return (config & SHARP_TOOL_SYSTEM) != 0;
+    }
+
+    /**
+     * @return The number of distinct block state classifications.
+     */
+    public int paletteSize()
+    {
+        return palette.length;
+    }
+}
@@ -0,0 +1,83 @@
+package com.alcatrazescapee.notreepunching.util;
+
+import java.util.BitSet;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import com.alcatrazescapee.notreepunching.common.ModTags;
+
+/**
+ * Precomputed lookups for flint knapping, which is checked on every right click on a block.
+ * Knappable items are indexed by item registry id, and knappable surfaces by block state id. Both are rebuilt whenever tags are (re)loaded, and until then, the tags are checked directly.
+ */
+public final class KnappingTable
+{
+    private static volatile @Nullable KnappingTable current = null;
+
+    /**
+     * Called when tags are loaded or synced.
+     */
+    public static void rebuild()
+    {
+        final BitSet items = new BitSet(BuiltInRegistries.ITEM.size());
+        for (Item item : BuiltInRegistries.ITEM)
+        {
+            if (Helpers.isItem(item, ModTags.Items.FLINT_KNAPPABLE))
+            {
+                items.set(BuiltInRegistries.ITEM.getId(item));
+            }
+        }
+
+        final BitSet states = new BitSet(Block.BLOCK_STATE_REGISTRY.size());
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY)
+        {
+            if (isKnappableSurfaceUncached(state))
+            {
+                states.set(Block.BLOCK_STATE_REGISTRY.getId(state));
+            }
+        }
+
+        current = new KnappingTable(items, states);
+    }
+
+    public static boolean isKnappable(ItemStack stack)
+    {
+        final KnappingTable table = current;
+        if (table == null)
+        {
+            return Helpers.isItem(stack.getItem(), ModTags.Items.FLINT_KNAPPABLE);
+        }
+        final int id = BuiltInRegistries.ITEM.getId(stack.getItem());
+        return id >= 0 && table.items.get(id);
+    }
+
+    public static boolean isKnappableSurface(BlockState state)
+    {
+        final KnappingTable table = current;
+        if (table == null)
+        {
+            return isKnappableSurfaceUncached(state);
+        }
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        return id >= 0 && table.states.get(id);
+    }
+
+    private static boolean isKnappableSurfaceUncached(BlockState state)
+    {
+        return state.is(ModTags.Blocks.KNAPPABLE_STONE) || state.getSoundType() == SoundType.STONE;
+    }
+
+    private final BitSet items;
+    private final BitSet states;
+
+    private KnappingTable(BitSet items, BitSet states)
+    {
+        this.items = items;
+        this.states = states;
+    }
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.ForgeConfig;
 import com.alcatrazescapee.notreepunching.common.ModTags;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 /**
  * Centralized sharp tool utility for tag-based plant harvesting system.
@@ -64,8 +65,25 @@ public final class SharpToolUtil
             return false; // System disabled, no items are considered sharp tools
         }
         
+        return isSharpToolItem(stack);
+    }
+
+    /**
+     * Check if an ItemStack is tagged as a sharp tool, regardless of whether the system is enabled
+     * Used by harvest checks, which read whether the system is enabled from the server's {@link HarvestTable}
+     * @param stack The item stack to check
+     * @return true if the item is tagged as a sharp tool
+     */
+    public static boolean isSharpToolItem(ItemStack stack)
+    {
+        if (stack.isEmpty())
+        {
+            return false;
+        }
+
         Item item = stack.getItem();
         Boolean cachedResult = SHARP_TOOL_CACHE.get(item);
+        (cachedResult != null ? Metrics.SHARP_TOOL_CACHE_HITS : Metrics.SHARP_TOOL_CACHE_MISSES).increment();
         if (ForgeConfig.enableSharpToolDebugLogging.get())
         {
             LOGGER.debug("SharpToolUtil.isSharpTool() cache lookup for item {}: {}", 
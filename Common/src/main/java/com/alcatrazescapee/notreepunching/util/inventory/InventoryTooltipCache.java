@@ -0,0 +1,51 @@
+package com.alcatrazescapee.notreepunching.util.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.network.chat.Component;
+
+import com.alcatrazescapee.notreepunching.util.Helpers;
+
+/**
+ * Caches the tooltip lines summarizing an inventory stored in a tag, so that hovering a vessel (which happens every frame, and for every stack in creative search or recipe viewer lists) does not parse the contents each time.
+ * <ul>
+ *     <li>Entries are keyed by the identity of the item list, with weak keys, and a bounded size.</li>
+ *     <li>Each entry keeps a copy of the list it was built from, and is only reused while the list is still equal to it, as the list may be modified in place.</li>
+ * </ul>
+ */
+public final class InventoryTooltipCache
+{
+    private static final Cache<ListTag, Entry> CACHE = CacheBuilder.newBuilder()
+        .weakKeys()
+        .maximumSize(512)
+        .build();
+
+    /**
+     * Adds the summary of the inventory stored in {@code tag}, in the format of {@link net.minecraft.world.ContainerHelper#saveAllItems}, to {@code tooltip}.
+     */
+    public static void addTooltip(CompoundTag tag, int slots, List<Component> tooltip)
+    {
+        if (!(tag.get("Items") instanceof ListTag items) || items.isEmpty())
+        {
+            return; // Nothing to summarize
+        }
+
+        Entry entry = CACHE.getIfPresent(items);
+        if (entry == null || entry.slots != slots || !entry.items.equals(items))
+        {
+            final List<Component> lines = new ArrayList<>();
+            Helpers.addInventoryTooltip(ItemStackListInventory.create(slots, tag), lines);
+            entry = new Entry(items.copy(), slots, List.copyOf(lines));
+            CACHE.put(items, entry);
+        }
+        tooltip.addAll(entry.lines);
+    }
+
+    record Entry(ListTag items, int slots, List<Component> lines) {}
+
+    private InventoryTooltipCache() {}
+}
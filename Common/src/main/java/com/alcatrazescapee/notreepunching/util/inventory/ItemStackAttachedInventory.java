@@ -1,40 +1,105 @@
 package com.alcatrazescapee.notreepunching.util.inventory;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
 import java.util.function.Predicate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * An inventory which is stored in the tag of an item stack, in the same format as {@link ContainerHelper#saveAllItems(CompoundTag, NonNullList)}.
+ * <ul>
+ *     <li>Parsed contents are cached per stack (by identity), and are reused for as long as the stack's tag, and the item list within it, are the same instances they were parsed from.</li>
+ *     <li>Reading never creates a tag. A stack without a tag is empty, and is only given a tag once there is something to write to it, so untouched stacks still stack with each other.</li>
+ *     <li>Every inventory created for the same stack shares the same contents, including the slot list and the batch. So a menu and an item handler open on the same stack see each other's changes immediately, and a save by either one writes both.</li>
+ *     <li>On {@link #modified()}, only the entries of slots that have changed since the last save are rewritten. A slot has changed if it holds a different stack instance, the count of the stack has changed, or its tag no longer equals the tag in the slot's saved entry, as stacks may be damaged, renamed or enchanted in place.</li>
+ *     <li>Within a batch, the tag is saved once, when the batch is committed.</li>
+ *     <li>Callers that change a stack returned by {@link #get(int)} or {@link #slots()} in place must call {@link #modified()} (or commit the batch) afterwards. The tag is what is saved and synced, so changes that were never saved are discarded, and the contents loaded from the tag again, the next time an inventory is created for the stack.</li>
+ * </ul>
+ */
 public class ItemStackAttachedInventory implements ItemStackInventory
 {
+    /**
+     * Keys are weak, and compared by identity. Values only ever reference the tag of the stack, and never the stack itself, so entries are cleared once the stack is no longer reachable.
+     */
+    private static final Cache<ItemStack, Contents> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+
     public static Factory create(int slots, Predicate<ItemStack> predicate)
     {
         return stack -> new ItemStackAttachedInventory(stack, slots, predicate);
     }
 
+    private static Contents contents(ItemStack stack, int slots)
+    {
+        final CompoundTag tag = stack.getTag();
+        Contents contents = CACHE.getIfPresent(stack);
+        if (contents == null || contents.size() != slots || !contents.isFor(tag))
+        {
+            contents = new Contents(tag, slots);
+            CACHE.put(stack, contents);
+        }
+        else if (!contents.batch.isOpen() && !contents.isSaved())
+        {
+            contents.reload(); // A stack was changed without modified(), so the contents no longer match the tag
+        }
+        return contents;
+    }
+
     private final ItemStack stack;
     private final Predicate<ItemStack> predicate;
-    private final NonNullList<ItemStack> stacks;
+    private final Contents contents;
 
     public ItemStackAttachedInventory(ItemStack stack, int slots, Predicate<ItemStack> predicate)
     {
         this.stack = stack;
         this.predicate = predicate;
-        this.stacks = NonNullList.withSize(slots, ItemStack.EMPTY);
+        this.contents = contents(stack, slots);
+    }
 
-        ContainerHelper.loadAllItems(stack.getOrCreateTag(), stacks);
+    /**
+     * @return {@code true} if this inventory still reflects the stack's tag, i.e. the tag, or the item list within it, have not been replaced since this inventory was created, and no stack has been changed without being saved, outside of a batch.
+     */
+    public boolean isCurrent()
+    {
+        return contents.isFor(stack.getTag()) && (contents.batch.isOpen() || contents.isSaved());
     }
 
     @Override
     public NonNullList<ItemStack> slots()
     {
-        return stacks;
+        return contents.stacks;
     }
 
     @Override
     public void modified()
     {
-        ContainerHelper.saveAllItems(stack.getOrCreateTag(), stacks);
+        if (!contents.batch.defer())
+        {
+            contents.save(stack);
+        }
+    }
+
+    @Override
+    public void beginBatch()
+    {
+        contents.batch.begin();
+    }
+
+    @Override
+    public void commitBatch()
+    {
+        if (contents.batch.commit())
+        {
+            modified();
+        }
     }
 
     @Override
@@ -48,4 +113,212 @@ public class ItemStackAttachedInventory implements ItemStackInventory
     {
         ItemStackAttachedInventory create(ItemStack stack);
     }
+
+    /**
+     * The parsed contents of a stack's tag, along with the tag entry backing each slot, and a snapshot of each slot as of the last save.
+     */
+    static final class Contents
+    {
+        private static final String ITEMS = "Items";
+        private static final String SLOT = "Slot";
+        private static final String TAG = "tag";
+
+        @Nullable
+        private static ListTag itemsOf(CompoundTag tag)
+        {
+            return tag.get(ITEMS) instanceof ListTag list && (list.isEmpty() || list.getElementType() == Tag.TAG_COMPOUND) ? list : null;
+        }
+
+        private final NonNullList<ItemStack> stacks;
+        private final ModificationBatch batch;
+        private final @Nullable CompoundTag[] entries;
+        private final ItemStack[] savedStacks;
+        private final int[] savedCounts;
+
+        private @Nullable CompoundTag tag;
+        private @Nullable ListTag items;
+        private boolean rewriteAll; // Set if the item list could not be mapped one entry per slot
+
+        Contents(@Nullable CompoundTag tag, int slots)
+        {
+            this.stacks = NonNullList.withSize(slots, ItemStack.EMPTY);
+            this.batch = new ModificationBatch();
+            this.entries = new CompoundTag[slots];
+            this.savedStacks = new ItemStack[slots];
+            this.savedCounts = new int[slots];
+            this.tag = tag;
+
+            load();
+        }
+
+        int size()
+        {
+            return stacks.size();
+        }
+
+        boolean isFor(@Nullable CompoundTag tag)
+        {
+            return this.tag == tag && (tag == null || tag.get(ITEMS) == items);
+        }
+
+        void save(ItemStack owner)
+        {
+            CompoundTag currentTag = owner.getTag();
+            if (currentTag == null)
+            {
+                if (stacks.stream().allMatch(ItemStack::isEmpty))
+                {
+                    // Nothing to write, so the stack is left without a tag
+                    tag = null;
+                    items = null;
+                    Arrays.fill(entries, null);
+                    snapshot();
+                    return;
+                }
+                currentTag = owner.getOrCreateTag();
+            }
+            if (!isFor(currentTag))
+            {
+                // The tag, or the item list, was replaced underneath us, so none of the known entries belong to it anymore
+                tag = currentTag;
+                rewriteAll = true;
+            }
+            if (rewriteAll)
+            {
+                ContainerHelper.saveAllItems(currentTag, stacks);
+                items = itemsOf(currentTag);
+                Arrays.fill(entries, null);
+                if (items != null)
+                {
+                    for (int i = 0; i < items.size(); i++)
+                    {
+                        final CompoundTag entry = items.getCompound(i);
+                        entries[entry.getByte(SLOT) & 255] = entry;
+                    }
+                }
+                rewriteAll = false;
+                snapshot();
+                return;
+            }
+            if (items == null)
+            {
+                items = new ListTag();
+                currentTag.put(ITEMS, items);
+            }
+            for (int slot = 0; slot < stacks.size(); slot++)
+            {
+                final ItemStack stack = stacks.get(slot);
+                if (stack != savedStacks[slot] || stack.getCount() != savedCounts[slot] || !hasSavedTag(slot, stack))
+                {
+                    write(items, slot, stack);
+                    savedStacks[slot] = stack;
+                    savedCounts[slot] = stack.getCount();
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} if no slot has changed since the last save, or load.
+         */
+        boolean isSaved()
+        {
+            for (int slot = 0; slot < stacks.size(); slot++)
+            {
+                final ItemStack stack = stacks.get(slot);
+                if (stack != savedStacks[slot] || stack.getCount() != savedCounts[slot] || !hasSavedTag(slot, stack))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Discards any unsaved changes, and loads the slots from the tag again, into the same slot list.
+         */
+        void reload()
+        {
+            Collections.fill(stacks, ItemStack.EMPTY);
+            Arrays.fill(entries, null);
+            rewriteAll = false;
+            load();
+        }
+
+        private boolean hasSavedTag(int slot, ItemStack stack)
+        {
+            final CompoundTag entry = entries[slot];
+            return stack.isEmpty() || Objects.equals(stack.getTag(), entry == null ? null : entry.get(TAG));
+        }
+
+        private void load()
+        {
+            items = tag == null ? null : itemsOf(tag);
+            if (items != null)
+            {
+                for (int i = 0; i < items.size(); i++)
+                {
+                    final CompoundTag entry = items.getCompound(i);
+                    final int slot = entry.getByte(SLOT) & 255;
+                    if (slot < stacks.size())
+                    {
+                        if (entries[slot] != null)
+                        {
+                            rewriteAll = true; // Duplicate entries for a slot, the last one wins, as in ContainerHelper
+                        }
+                        stacks.set(slot, ItemStack.of(entry));
+                        entries[slot] = entry;
+                    }
+                }
+            }
+            snapshot();
+        }
+
+        private void write(ListTag items, int slot, ItemStack stack)
+        {
+            final CompoundTag entry = entries[slot];
+            if (stack.isEmpty())
+            {
+                if (entry != null)
+                {
+                    items.remove(indexOf(items, entry));
+                    entries[slot] = null;
+                }
+                return;
+            }
+
+            final CompoundTag newEntry = new CompoundTag();
+            newEntry.putByte(SLOT, (byte) slot);
+            stack.save(newEntry);
+            if (entry != null)
+            {
+                items.set(indexOf(items, entry), newEntry);
+            }
+            else
+            {
+                items.add(newEntry);
+            }
+            entries[slot] = newEntry;
+        }
+
+        private void snapshot()
+        {
+            for (int slot = 0; slot < stacks.size(); slot++)
+            {
+                savedStacks[slot] = stacks.get(slot);
+                savedCounts[slot] = stacks.get(slot).getCount();
+            }
+        }
+
+        private static int indexOf(ListTag items, CompoundTag entry)
+        {
+            for (int i = 0; i < items.size(); i++)
+            {
+                if (items.get(i) == entry)
+                {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Entry is not present in the item list");
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.alcatrazescapee.notreepunching.util.inventory;
 
+import java.util.function.Supplier;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.item.ItemStack;
 
@@ -51,7 +52,6 @@ public interface ItemStackInventory
         else
         {
             set(slot, ItemStack.EMPTY);
-            modified();
             return current;
         }
     }
@@ -69,6 +69,33 @@ public interface ItemStackInventory
      */
     default void modified() {}
 
+    /**
+     * Begins a batch of changes. Until the matching {@link #commitBatch()}, calls to {@link #modified()} may be deferred, and coalesced into a single call when the outermost batch is committed.
+     * Prefer {@link #batch(Supplier)}, which always commits.
+     */
+    default void beginBatch() {}
+
+    /**
+     * Commits a batch of changes started with {@link #beginBatch()}.
+     */
+    default void commitBatch() {}
+
+    /**
+     * Runs {@code action} as a single batch of changes.
+     */
+    default <T> T batch(Supplier<T> action)
+    {
+        beginBatch();
+        try
+        {
+            return action.get();
+        }
+        finally
+        {
+            commitBatch();
+        }
+    }
+
     /**
      * Internal access to the underlying slots.
      */
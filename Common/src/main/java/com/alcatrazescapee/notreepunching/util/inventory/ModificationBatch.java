@@ -0,0 +1,50 @@
+package com.alcatrazescapee.notreepunching.util.inventory;
+
+/**
+ * Tracks the batch state of an {@link ItemStackInventory}, for implementations with expensive {@link ItemStackInventory#modified()} handlers.
+ * Batches may be nested, and only the outermost commit runs the handler, at most once.
+ */
+public final class ModificationBatch
+{
+    private int depth = 0;
+    private boolean modified = false;
+
+    /**
+     * @return {@code true} if a batch is open.
+     */
+    public boolean isOpen()
+    {
+        return depth > 0;
+    }
+
+    public void begin()
+    {
+        depth++;
+    }
+
+    /**
+     * @return {@code true} if the outermost batch was committed, and the inventory was modified during it, so the handler should run now.
+     */
+    public boolean commit()
+    {
+        if (depth > 0 && --depth == 0 && modified)
+        {
+            modified = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if a batch is open, in which case the modification is recorded, and the handler should not run yet.
+     */
+    public boolean defer()
+    {
+        if (depth > 0)
+        {
+            modified = true;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package com.alcatrazescapee.notreepunching.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * A single {@link com.alcatrazescapee.notreepunching.util.HarvestBlockHandler} decision, for either mining or drops.
+ */
+@Name("notreepunching.HarvestCheck")
+@Label("Harvest Check")
+@Category({"No Tree Punching", "Harvest"})
+@Description("Decides if a player is using the correct tool to mine, or get drops from, a block")
+@Enabled(false)
+@StackTrace(false)
+public final class HarvestCheckEvent extends Event
+{
+    /**
+     * Ends {@code event}, and commits it with its inputs and outcome if it is being recorded. The inputs are only converted to strings in that case.
+     * @return {@code result}
+     */
+    public static boolean commit(HarvestCheckEvent event, BlockState state, Player player, boolean mining, String check, boolean result)
+    {
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.state = state.toString();
+            event.item = BuiltInRegistries.ITEM.getKey(player.getMainHandItem().getItem()).toString();
+            event.mining = mining;
+            event.check = check;
+            event.result = result;
+            event.commit();
+        }
+        return result;
+    }
+
+    @Label("Block State")
+    String state;
+
+    @Label("Item")
+    String item;
+
+    @Label("Mining")
+    @Description("If the check was for mining the block, as opposed to getting drops")
+    boolean mining;
+
+    @Label("Deciding Check")
+    String check;
+
+    @Label("Result")
+    boolean result;
+}
@@ -0,0 +1,30 @@
+package com.alcatrazescapee.notreepunching.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@link com.alcatrazescapee.notreepunching.util.HarvestBlockHandler#setup()}, which runs once at startup.
+ */
+@Name("notreepunching.HarvestSetup")
+@Label("Harvest Setup")
+@Category({"No Tree Punching", "Harvest"})
+@Description("Modifies blocks to require the correct tool for drops")
+@Enabled(false)
+@StackTrace(false)
+public final class HarvestSetupEvent extends Event
+{
+    @Label("Total Blocks")
+    public int totalBlocks;
+
+    @Label("Processed Blocks")
+    public int processedBlocks;
+
+    @Label("Modified Blocks")
+    public int modifiedBlocks;
+}
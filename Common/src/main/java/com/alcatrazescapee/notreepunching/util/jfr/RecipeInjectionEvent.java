@@ -0,0 +1,44 @@
+package com.alcatrazescapee.notreepunching.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One phase of modifying the recipe manager after a reload, such as removing empty recipes, or generating saw recipes.
+ */
+@Name("notreepunching.RecipeInjection")
+@Label("Recipe Injection")
+@Category({"No Tree Punching", "Recipes"})
+@Description("A phase of modifying the recipe manager after a reload")
+@Enabled(false)
+@StackTrace(false)
+public final class RecipeInjectionEvent extends Event
+{
+    public static final String REMOVE_EMPTY = "remove_empty", GATHER_TAGS = "gather_tags", GENERATE = "generate", INSERT = "insert";
+
+    /**
+     * Ends {@code event}, and commits it if it is being recorded.
+     */
+    public static void commit(RecipeInjectionEvent event, String phase, int recipes)
+    {
+        event.end();
+        if (event.shouldCommit())
+        {
+            event.phase = phase;
+            event.recipes = recipes;
+            event.commit();
+        }
+    }
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Recipes")
+    @Description("The number of recipes removed, generated, or inserted, or items gathered, by this phase")
+    int recipes;
+}
@@ -0,0 +1,33 @@
+package com.alcatrazescapee.notreepunching.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@link com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity} sync packet, covering the slots changed since the last one.
+ */
+@Name("notreepunching.VesselSync")
+@Label("Large Vessel Sync")
+@Category({"No Tree Punching", "Block Entities"})
+@Description("Builds and sends the changed slots of a large vessel to tracking clients")
+@Enabled(false)
+@StackTrace(false)
+public final class VesselSyncEvent extends Event
+{
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Changed Slots")
+    public int changedSlots;
+}
@@ -0,0 +1,28 @@
+package com.alcatrazescapee.notreepunching.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter which may be incremented from any thread, without contention.
+ */
+public final class Counter
+{
+    private final LongAdder count = new LongAdder();
+
+    Counter() {}
+
+    public void increment()
+    {
+        count.increment();
+    }
+
+    public long get()
+    {
+        return count.sum();
+    }
+
+    void reset()
+    {
+        count.reset();
+    }
+}
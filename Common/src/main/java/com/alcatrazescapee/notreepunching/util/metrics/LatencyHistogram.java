@@ -0,0 +1,104 @@
+package com.alcatrazescapee.notreepunching.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations, in nanoseconds, over a fixed set of buckets. Like {@link Counter}, this may be recorded to from any thread.
+ */
+public final class LatencyHistogram
+{
+    /**
+     * The inclusive upper bound of each bucket, in nanoseconds. The last bucket holds everything above the last bound.
+     */
+    static final long[] BOUNDS = {
+        1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+    private final LongAdder total = new LongAdder();
+
+    LatencyHistogram()
+    {
+        for (int i = 0; i < buckets.length; i++)
+        {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos)
+    {
+        int bucket = 0;
+        while (bucket < BOUNDS.length && nanos > BOUNDS[bucket])
+        {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        total.add(nanos);
+    }
+
+    public long count()
+    {
+        long count = 0;
+        for (LongAdder bucket : buckets)
+        {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long totalNanos()
+    {
+        return total.sum();
+    }
+
+    /**
+     * @return The count in each bucket, indexed as {@link #BOUNDS}, with one extra for durations above the last bound.
+     */
+    public long[] buckets()
+    {
+        final long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++)
+        {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * @param fraction The percentile, as a fraction in [0, 1].
+     * @return The upper bound of the bucket containing the given percentile, or {@link Long#MAX_VALUE} if it is above the last bound, or zero if nothing has been recorded.
+     */
+    public long percentileNanos(double fraction)
+    {
+        final long[] counts = buckets();
+        long count = 0;
+        for (long bucket : counts)
+        {
+            count += bucket;
+        }
+        if (count == 0)
+        {
+            return 0;
+        }
+        final long target = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS.length; i++)
+        {
+            seen += counts[i];
+            if (seen >= target)
+            {
+                return BOUNDS[i];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    void reset()
+    {
+        for (LongAdder bucket : buckets)
+        {
+            bucket.reset();
+        }
+        total.reset();
+    }
+}
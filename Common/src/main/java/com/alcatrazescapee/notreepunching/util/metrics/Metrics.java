@@ -0,0 +1,182 @@
+package com.alcatrazescapee.notreepunching.util.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
+import net.minecraft.server.MinecraftServer;
+import org.slf4j.Logger;
+
+import com.alcatrazescapee.notreepunching.Config;
+
+/**
+ * Server metrics, for finding which paths dominate without attaching a profiler.
+ * <ul>
+ *     <li>Counters and histograms are striped ({@link java.util.concurrent.atomic.LongAdder}), so recording is cheap and uncontended, and they are always collected.</li>
+ *     <li>They are viewed with {@code /notreepunching metrics}, and optionally written as JSON to {@link #FILE_NAME} in the server directory, every {@link Config#metricsFileInterval} seconds.</li>
+ * </ul>
+ */
+public final class Metrics
+{
+    public static final String FILE_NAME = "notreepunching-metrics.json";
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentSkipListMap<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final Map<String, Counter> HARVEST_CHECKS = new ConcurrentHashMap<>();
+
+    public static final LatencyHistogram HARVEST_CHECK_LATENCY = histogram("harvest_check.latency");
+    // The sharp tool cache is shared by both sides, so on an integrated server these include lookups made by the client
+    public static final Counter SHARP_TOOL_CACHE_HITS = counter("sharp_tool_cache.hits");
+    public static final Counter SHARP_TOOL_CACHE_MISSES = counter("sharp_tool_cache.misses");
+    public static final Counter KNIFE_DAMAGE = counter("knife.damage");
+    public static final Counter KNAPPING_ATTEMPTS = counter("knapping.attempts");
+    public static final Counter KNAPPING_SUCCESSES = counter("knapping.successes");
+    public static final Counter FIRE_STARTER_ACTIVATIONS = counter("fire_starter.activations");
+    // Only insertions and extractions by automation, through the vessel item handlers, not by players through menus
+    public static final Counter VESSEL_AUTOMATION_INSERTS = counter("vessel.automation_inserts");
+    public static final Counter VESSEL_AUTOMATION_EXTRACTS = counter("vessel.automation_extracts");
+    // Fluid handlers are only created for ceramic buckets when queried, not for every copy of a bucket stack
+    public static final Counter CERAMIC_BUCKET_FLUID_HANDLERS = counter("ceramic_bucket.fluid_handlers");
+
+    public static Counter counter(String name)
+    {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public static LatencyHistogram histogram(String name)
+    {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Records a harvest check, counted by the check which decided it.
+     */
+    public static void harvestCheck(String check, long nanos)
+    {
+        HARVEST_CHECKS.computeIfAbsent(check, key -> counter("harvest_check." + key)).increment();
+        HARVEST_CHECK_LATENCY.record(nanos);
+    }
+
+    public static Map<String, Counter> counters()
+    {
+        return COUNTERS;
+    }
+
+    public static Map<String, LatencyHistogram> histograms()
+    {
+        return HISTOGRAMS;
+    }
+
+    public static void reset()
+    {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * @return A human readable line for each metric, for {@code /notreepunching metrics}.
+     */
+    public static List<String> report()
+    {
+        final List<String> lines = new ArrayList<>();
+        COUNTERS.forEach((name, counter) -> lines.add("%s: %d".formatted(name, counter.get())));
+        HISTOGRAMS.forEach((name, histogram) -> {
+            final long count = histogram.count();
+            lines.add(count == 0
+                ? "%s: none".formatted(name)
+                : "%s: %d, mean %.1fus, p50 %s, p99 %s".formatted(name, count, histogram.totalNanos() / (count * 1000.0), formatBound(histogram.percentileNanos(0.5)), formatBound(histogram.percentileNanos(0.99))));
+        });
+        return lines;
+    }
+
+    public static JsonObject toJson()
+    {
+        final JsonObject counters = new JsonObject();
+        COUNTERS.forEach((name, counter) -> counters.addProperty(name, counter.get()));
+
+        final JsonObject histograms = new JsonObject();
+        HISTOGRAMS.forEach((name, histogram) -> {
+            final JsonObject json = new JsonObject();
+            final long[] buckets = histogram.buckets();
+            final JsonObject bucketsJson = new JsonObject();
+            for (int i = 0; i < LatencyHistogram.BOUNDS.length; i++)
+            {
+                bucketsJson.addProperty("le_" + LatencyHistogram.BOUNDS[i], buckets[i]);
+            }
+            bucketsJson.addProperty("inf", buckets[LatencyHistogram.BOUNDS.length]);
+
+            json.addProperty("count", histogram.count());
+            json.addProperty("total_ns", histogram.totalNanos());
+            json.add("buckets", bucketsJson);
+            histograms.add(name, json);
+        });
+
+        final JsonObject json = new JsonObject();
+        json.addProperty("timestamp", System.currentTimeMillis());
+        json.add("counters", counters);
+        json.add("histograms", histograms);
+        return json;
+    }
+
+    /**
+     * Called at the end of every server tick. Writes the metrics file, if enabled, on the IO pool.
+     */
+    public static void onServerTick(MinecraftServer server)
+    {
+        final int interval = Config.INSTANCE.metricsFileInterval.getAsInt();
+        if (interval <= 0 || server.getTickCount() % (interval * 20) != 0)
+        {
+            return;
+        }
+        final String json = GSON.toJson(toJson());
+        final Path path = server.getFile(FILE_NAME).toPath().toAbsolutePath();
+        Util.ioPool().execute(() -> {
+            Path temp = null;
+            try
+            {
+                // Written to a temporary file first, so readers never see a partial file. Each write has its own temporary file, as writes may overlap on the IO pool
+                temp = Files.createTempFile(path.getParent(), FILE_NAME, ".tmp");
+                Files.writeString(temp, json);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (IOException e)
+            {
+                if (temp != null)
+                {
+                    try
+                    {
+                        Files.deleteIfExists(temp);
+                    }
+                    catch (IOException suppressed)
+                    {
+                        e.addSuppressed(suppressed);
+                    }
+                }
+                LOGGER.warn("Failed to write {}", path, e);
+            }
+        });
+    }
+
+    private static String formatBound(long nanos)
+    {
+        return nanos == Long.MAX_VALUE
+            ? ">" + LatencyHistogram.BOUNDS[LatencyHistogram.BOUNDS.length - 1] / 1000 + "us"
+            : "<=" + nanos / 1000.0 + "us";
+    }
+
+    private Metrics() {}
+}
@@ -9,10 +9,13 @@ import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
+import org.jetbrains.annotations.Nullable;
 
+import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.common.blocks.ModBlocks;
 
@@ -31,6 +34,8 @@ public class LooseRocksFeature extends Feature<NoneFeatureConfiguration>
         .build()
     );
 
+    private static final int STONE_SEARCH_DEPTH = 8;
+
     public LooseRocksFeature()
     {
         super(NoneFeatureConfiguration.CODEC);
@@ -40,25 +45,62 @@ public class LooseRocksFeature extends Feature<NoneFeatureConfiguration>
     @Override
     public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> context)
     {
-        final WorldGenLevel level = context.level();
-        final BlockPos pos = context.origin();
+        return place(context.level(), context.origin(), Config.INSTANCE.enableLooseRocksHeightmapPlacement.getAsBoolean());
+    }
+
+    /**
+     * Places a loose rock at {@code origin}, using the given placement mode rather than the one from the config.
+     */
+    public boolean place(WorldGenLevel level, BlockPos origin, boolean useHeightmap)
+    {
+        return useHeightmap ? placeUsingHeightmap(level, origin) : placeAt(level, origin);
+    }
+
+    /**
+     * Picks the surface from the heightmap, and rejects the attempt without reading any blocks if the surface is covered by a fluid.
+     * Uses the {@link Heightmap.Types#WORLD_SURFACE_WG} and {@link Heightmap.Types#OCEAN_FLOOR_WG} heightmaps, which are available during feature placement.
+     */
+    private boolean placeUsingHeightmap(WorldGenLevel level, BlockPos origin)
+    {
+        final int surfaceY = level.getHeight(Heightmap.Types.WORLD_SURFACE_WG, origin.getX(), origin.getZ());
+        if (surfaceY != level.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, origin.getX(), origin.getZ()))
+        {
+            return false;
+        }
+        return placeAt(level, new BlockPos(origin.getX(), surfaceY, origin.getZ()));
+    }
 
+    private boolean placeAt(WorldGenLevel level, BlockPos pos)
+    {
         final BlockState stateAt = level.getBlockState(pos);
         final BlockState stateDown = level.getBlockState(pos.below());
         if (stateAt.isAir() && stateDown.is(ModTags.Blocks.LOOSE_ROCK_PLACEABLE_ON))
         {
-            for (int y = 1; y <= 8; y++)
+            final Block looseRockBlock = findLooseRock(level, pos);
+            if (looseRockBlock != null)
             {
-                final BlockPos stonePos = pos.below(y);
-                final BlockState stoneState = level.getBlockState(stonePos);
-                if (LOOSE_ROCK_STONE_LOOKUP.get().containsKey(stoneState.getBlock()))
-                {
-                    final Block looseRockBlock = LOOSE_ROCK_STONE_LOOKUP.get().get(stoneState.getBlock()).get();
-                    level.setBlock(pos, looseRockBlock.defaultBlockState(), 3);
-                    return true;
-                }
+                level.setBlock(pos, looseRockBlock.defaultBlockState(), 3);
+                return true;
             }
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return The loose rock matching the first stone type found within {@link #STONE_SEARCH_DEPTH} blocks below {@code pos}, or {@code null} if there is none.
+     */
+    @Nullable
+    private static Block findLooseRock(WorldGenLevel level, BlockPos pos)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int y = 1; y <= STONE_SEARCH_DEPTH; y++)
+        {
+            final Supplier<? extends Block> looseRock = LOOSE_ROCK_STONE_LOOKUP.get().get(level.getBlockState(cursor.setWithOffset(pos, 0, -y, 0)).getBlock());
+            if (looseRock != null)
+            {
+                return looseRock.get();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.alcatrazescapee.notreepunching;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.OnDatapackSyncEvent;
+import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.PacketDistributor;
+import net.minecraftforge.network.simple.SimpleChannel;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import com.alcatrazescapee.notreepunching.util.Helpers;
+import com.alcatrazescapee.notreepunching.util.HarvestTable;
+
+/**
+ * Syncs the server's {@link HarvestTable} to clients, on login and datapack reload (both of which fire {@link OnDatapackSyncEvent}), and on config reload.
+ */
+public final class ForgeNetwork
+{
+    private static final String VERSION = "1";
+    private static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(Helpers.identifier("network"), () -> VERSION, VERSION::equals, VERSION::equals);
+
+    public static void setup(IEventBus modEventBus)
+    {
+        CHANNEL.messageBuilder(HarvestTable.class, 0, NetworkDirection.PLAY_TO_CLIENT)
+            .encoder(HarvestTable::encode)
+            .decoder(HarvestTable::decode)
+            .consumerMainThread((table, context) -> HarvestTable.setRemote(table))
+            .add();
+
+        MinecraftForge.EVENT_BUS.addListener((OnDatapackSyncEvent event) -> {
+            final HarvestTable table = HarvestTable.local();
+            if (event.getPlayer() != null)
+            {
+                CHANNEL.send(PacketDistributor.PLAYER.with(event::getPlayer), table);
+            }
+            else
+            {
+                CHANNEL.send(PacketDistributor.ALL.noArg(), table);
+            }
+        });
+        modEventBus.addListener((ModConfigEvent.Reloading event) -> {
+            final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (NoTreePunching.MOD_ID.equals(event.getConfig().getModId()) && server != null)
+            {
+                // Config reloads are fired from the file watcher thread
+                server.execute(() -> CHANNEL.send(PacketDistributor.ALL.noArg(), HarvestTable.local()));
+            }
+        });
+    }
+}
@@ -1,11 +1,11 @@
 package com.alcatrazescapee.notreepunching;
 
 import net.minecraft.world.InteractionResult;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -15,7 +15,12 @@ import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.fml.loading.FMLEnvironment;
 
 import com.alcatrazescapee.notreepunching.client.ForgeNoTreePunchingClient;
-import com.alcatrazescapee.notreepunching.util.inventory.ForgeInventoryCapabilities;
+import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
+import com.alcatrazescapee.notreepunching.common.items.FireStarterIngredients;
+import com.alcatrazescapee.notreepunching.common.recipes.ToolItemIndex;
+import com.alcatrazescapee.notreepunching.util.HarvestTable;
+import com.alcatrazescapee.notreepunching.util.KnappingTable;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 @Mod(value = NoTreePunching.MOD_ID)
 public final class ForgeNoTreePunching
@@ -24,10 +29,19 @@ public final class ForgeNoTreePunching
     {
         // Initialize Forge config system
         ForgeConfig.register();
+        Config.registerListeners(FMLJavaModLoadingContext.get().getModEventBus());
+        ForgeNetwork.setup(FMLJavaModLoadingContext.get().getModEventBus());
         
         NoTreePunching.earlySetup();
         FMLJavaModLoadingContext.get().getModEventBus().addListener((FMLCommonSetupEvent event) -> event.enqueueWork(NoTreePunching::lateSetup));
 
+        MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> {
+            KnappingTable.rebuild();
+            FireStarterIngredients.rebuild();
+            LargeVesselBlockEntity.onTagsUpdated();
+            ToolItemIndex.rebuild();
+            HarvestTable.invalidate();
+        });
         MinecraftForge.EVENT_BUS.addListener((PlayerInteractEvent.RightClickBlock event) -> {
             final InteractionResult result = EventHandler.onRightClickBlock(event.getLevel(), event.getPos(), event.getEntity(), event.getHand(), event.getItemStack(), event.getFace());
             if (result != null)
@@ -40,9 +54,12 @@ public final class ForgeNoTreePunching
         MinecraftForge.EVENT_BUS.addListener(EventPriority.LOW, (PlayerEvent.BreakSpeed event) -> event.setNewSpeed(EventHandler.modifyBreakSpeed(event.getEntity(), event.getState(), event.getPosition().orElse(null), event.getNewSpeed())));
         MinecraftForge.EVENT_BUS.addListener((PlayerEvent.HarvestCheck event) -> event.setCanHarvest(EventHandler.modifyHarvestCheck(event.getEntity(), event.getTargetBlock(), null, event.canHarvest())));
         MinecraftForge.EVENT_BUS.addListener((RegisterCommandsEvent event) -> EventHandler.registerCommands(event.getDispatcher()));
-
-        MinecraftForge.EVENT_BUS.addGenericListener(ItemStack.class, ForgeInventoryCapabilities::attachItemStackCapabilities);
-        MinecraftForge.EVENT_BUS.addGenericListener(BlockEntity.class, ForgeInventoryCapabilities::attachBlockEntityCapabilities);
+        MinecraftForge.EVENT_BUS.addListener((TickEvent.ServerTickEvent event) -> {
+            if (event.phase == TickEvent.Phase.END)
+            {
+                Metrics.onServerTick(event.getServer());
+            }
+        });
 
         if (FMLEnvironment.dist == Dist.CLIENT)
         {
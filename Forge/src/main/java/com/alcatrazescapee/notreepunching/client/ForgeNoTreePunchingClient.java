@@ -1,12 +1,17 @@
 package com.alcatrazescapee.notreepunching.client;
 
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 
+import com.alcatrazescapee.notreepunching.util.HarvestTable;
+
 public final class ForgeNoTreePunchingClient
 {
     public static void clientSetup()
     {
         FMLJavaModLoadingContext.get().getModEventBus().addListener((FMLClientSetupEvent event) -> event.enqueueWork(ClientEventHandler::clientSetup));
+        MinecraftForge.EVENT_BUS.addListener((ClientPlayerNetworkEvent.LoggingOut event) -> HarvestTable.setRemote(null));
     }
 }
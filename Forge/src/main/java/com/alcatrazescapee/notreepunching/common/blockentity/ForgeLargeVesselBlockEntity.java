@@ -0,0 +1,53 @@
+package com.alcatrazescapee.notreepunching.common.blockentity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.alcatrazescapee.notreepunching.util.inventory.ForgeInventoryCapabilities;
+
+/**
+ * Exposes the vessel's item handler directly. The handler is only created once it is first queried, and is invalidated when the vessel is removed or unloaded.
+ */
+public class ForgeLargeVesselBlockEntity extends LargeVesselBlockEntity
+{
+    private @Nullable LazyOptional<IItemHandler> itemHandler;
+
+    public ForgeLargeVesselBlockEntity(BlockPos pos, BlockState state)
+    {
+        super(pos, state);
+        this.itemHandler = null;
+    }
+
+    @NotNull
+    @Override
+    public <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side)
+    {
+        if (cap == ForgeCapabilities.ITEM_HANDLER)
+        {
+            if (itemHandler == null)
+            {
+                itemHandler = LazyOptional.of(() -> new ForgeInventoryCapabilities.LargeVesselCapability(this));
+            }
+            return itemHandler.cast();
+        }
+        return super.getCapability(cap, side);
+    }
+
+    @Override
+    public void invalidateCaps()
+    {
+        super.invalidateCaps();
+        if (itemHandler != null)
+        {
+            itemHandler.invalidate();
+            itemHandler = null; // A new one is created if the vessel is revived, and queried again
+        }
+    }
+}
@@ -16,6 +16,8 @@ import net.minecraftforge.fluids.FluidType;
 import net.minecraftforge.fluids.capability.IFluidHandlerItem;
 import org.jetbrains.annotations.Nullable;
 
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
+
 public class ForgeBucketItem extends CeramicBucketItem
 {
     public ForgeBucketItem(Fluid fluid, Properties properties)
@@ -26,20 +28,52 @@ public class ForgeBucketItem extends CeramicBucketItem
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt)
     {
-        return new Instance(stack);
+        return new Provider(stack);
+    }
+
+    /**
+     * Every copy of a bucket stack gathers capabilities again, including for inventory syncs and recipe previews, so this only holds the stack until the fluid handler is first queried.
+     * The handler itself cannot be shared between stacks, even empty ones, as filling or draining replaces its container, which the caller then reads back.
+     */
+    static class Provider implements ICapabilityProvider
+    {
+        private final ItemStack stack;
+        private @Nullable LazyOptional<IFluidHandlerItem> capability;
+
+        Provider(ItemStack stack)
+        {
+            this.stack = stack;
+            this.capability = null;
+        }
+
+        @Nonnull
+        @Override
+        public <T> LazyOptional<T> getCapability(Capability<T> capability, @Nullable Direction facing)
+        {
+            if (capability != ForgeCapabilities.FLUID_HANDLER_ITEM)
+            {
+                return LazyOptional.empty();
+            }
+            if (this.capability == null)
+            {
+                this.capability = LazyOptional.of(() -> {
+                    Metrics.CERAMIC_BUCKET_FLUID_HANDLERS.increment();
+                    return new Instance(stack);
+                });
+            }
+            return this.capability.cast();
+        }
     }
 
     /**
      * Copied from {@link net.minecraftforge.fluids.capability.wrappers.FluidBucketWrapper} to maintain parity as much as possible with default bucket behavior
      */
-    static class Instance implements IFluidHandlerItem, ICapabilityProvider
+    static class Instance implements IFluidHandlerItem
     {
-        private final LazyOptional<IFluidHandlerItem> capability;
         private ItemStack container;
 
         Instance(ItemStack container)
         {
-            this.capability = LazyOptional.of(() -> this);
             this.container = container;
         }
 
@@ -135,13 +169,6 @@ public class ForgeBucketItem extends CeramicBucketItem
             return FluidStack.EMPTY;
         }
 
-        @Nonnull
-        @Override
-        public <T> LazyOptional<T> getCapability(Capability<T> capability, @Nullable Direction facing)
-        {
-            return ForgeCapabilities.FLUID_HANDLER_ITEM.orEmpty(capability, this.capability);
-        }
-
         private FluidStack getFluid()
         {
             return container.getItem() == ModItems.CERAMIC_BUCKET.get() ? FluidStack.EMPTY : new FluidStack(Fluids.WATER, FluidType.BUCKET_VOLUME);
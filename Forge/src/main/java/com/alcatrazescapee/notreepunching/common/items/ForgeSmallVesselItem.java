@@ -0,0 +1,17 @@
+package com.alcatrazescapee.notreepunching.common.items;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import org.jetbrains.annotations.Nullable;
+
+import com.alcatrazescapee.notreepunching.util.inventory.ForgeInventoryCapabilities;
+
+public class ForgeSmallVesselItem extends SmallVesselItem
+{
+    @Override
+    public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt)
+    {
+        return new ForgeInventoryCapabilities.SmallVesselCapability(stack);
+    }
+}
@@ -3,6 +3,7 @@ package com.alcatrazescapee.notreepunching.platform;
 import java.nio.file.Path;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
@@ -34,10 +35,14 @@ import net.minecraftforge.fml.loading.FMLPaths;
 import net.minecraftforge.network.NetworkHooks;
 import org.jetbrains.annotations.Nullable;
 
+import com.alcatrazescapee.notreepunching.common.blockentity.ForgeLargeVesselBlockEntity;
+import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
 import com.alcatrazescapee.notreepunching.common.items.CeramicBucketItem;
 import com.alcatrazescapee.notreepunching.common.items.ForgeBucketItem;
 import com.alcatrazescapee.notreepunching.common.items.ForgeMattockItem;
+import com.alcatrazescapee.notreepunching.common.items.ForgeSmallVesselItem;
 import com.alcatrazescapee.notreepunching.common.items.MattockItem;
+import com.alcatrazescapee.notreepunching.common.items.SmallVesselItem;
 import com.alcatrazescapee.notreepunching.common.recipes.ForgeShapedToolDamagingRecipe;
 import com.alcatrazescapee.notreepunching.common.recipes.RecipeSerializerImpl;
 import com.alcatrazescapee.notreepunching.common.recipes.ToolDamagingRecipe;
@@ -76,6 +81,12 @@ public final class ForgePlatform implements XPlatform
         return new ForgeBucketItem(fluid, properties);
     }
 
+    @Override
+    public SmallVesselItem smallVesselItem()
+    {
+        return new ForgeSmallVesselItem();
+    }
+
     @Override
     public MattockItem mattockItem(Tier tier, float attackDamage, float attackSpeed, Item.Properties properties)
     {
@@ -95,6 +106,12 @@ public final class ForgePlatform implements XPlatform
         return BlockEntityType.Builder.of(factory::create, block.get()).build(null);
     }
 
+    @Override
+    public LargeVesselBlockEntity largeVesselBlockEntity(BlockPos pos, BlockState state)
+    {
+        return new ForgeLargeVesselBlockEntity(pos, state);
+    }
+
     @Override
     public <T extends AbstractContainerMenu> MenuType<T> containerType(ContainerFactory<T> factory)
     {
@@ -1,108 +1,151 @@
 package com.alcatrazescapee.notreepunching.util.inventory;
 
 import net.minecraft.core.Direction;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemHandlerHelper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
-import com.alcatrazescapee.notreepunching.common.blockentity.ModBlockEntities;
-import com.alcatrazescapee.notreepunching.common.items.ModItems;
-import com.alcatrazescapee.notreepunching.util.Helpers;
+import com.alcatrazescapee.notreepunching.common.items.SmallVesselItem;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
 /**
  * Implements Forge {@link net.minecraftforge.items.IItemHandler} capabilities that wrap our otherwise cross-platform inventory handlers.
- * Rather than requiring us to implement things on the class directly, we just attach via events to our own objects.
- * No, I won't properly manage invalidation as I think it's a stupid concept not worth anyone's time and effort implementing support for it.
+ * These are provided directly by our own items ({@code initCapabilities()}) and block entities ({@code getCapability()}), rather than via attach events, which run for every stack or block entity created, of any type.
  */
 public final class ForgeInventoryCapabilities
 {
-    private static final ResourceLocation CERAMIC_SMALL_VESSEL_INVENTORY = Helpers.identifier("ceramic_small_vessel_inventory");
-    private static final ResourceLocation CERAMIC_LARGE_VESSEL_INVENTORY = Helpers.identifier("ceramic_large_vessel_inventory");
-
-    public static void attachItemStackCapabilities(AttachCapabilitiesEvent<ItemStack> event)
+    /**
+     * The contents of a small vessel are parsed from the stack on first access, and reused for as long as the stack's tag is not replaced.
+     * Simulated operations never write to the tag, and real operations only rewrite the slots that changed.
+     */
+    public static class SmallVesselCapability extends InventoryItemHandler implements ICapabilityProvider
     {
-        if (event.getObject().getItem() == ModItems.CERAMIC_SMALL_VESSEL.get())
+        private final LazyOptional<SmallVesselCapability> capability;
+        private final ItemStack stack;
+        private @Nullable ItemStackAttachedInventory inventory;
+
+        public SmallVesselCapability(ItemStack stack)
         {
-            // todo: item handler capability
+            this.capability = LazyOptional.of(() -> this);
+            this.stack = stack;
+            this.inventory = null;
         }
-    }
 
-    public static void attachBlockEntityCapabilities(AttachCapabilitiesEvent<BlockEntity> event)
-    {
-        if (event.getObject().getType() == ModBlockEntities.LARGE_VESSEL.get())
+        @Override
+        ItemStackInventory inventory()
+        {
+            ItemStackAttachedInventory inventory = this.inventory;
+            if (inventory == null || !inventory.isCurrent())
+            {
+                inventory = SmallVesselItem.INVENTORY.create(stack);
+                this.inventory = inventory;
+            }
+            return inventory;
+        }
+
+        @NotNull
+        @Override
+        public <T> LazyOptional<T> getCapability(Capability<T> cap, @Nullable Direction side)
         {
-            event.addCapability(CERAMIC_LARGE_VESSEL_INVENTORY, new LargeVesselCapability((LargeVesselBlockEntity) event.getObject()));
+            return cap == ForgeCapabilities.ITEM_HANDLER ? capability.cast() : LazyOptional.empty();
         }
     }
 
-    static class LargeVesselCapability implements ICapabilityProvider, IItemHandlerModifiable
+    public static class LargeVesselCapability extends InventoryItemHandler
     {
-        private final LazyOptional<LargeVesselCapability> capability;
         private final LargeVesselBlockEntity vessel;
 
-        LargeVesselCapability(LargeVesselBlockEntity vessel)
+        public LargeVesselCapability(LargeVesselBlockEntity vessel)
         {
-            this.capability = LazyOptional.of(() -> this);
             this.vessel = vessel;
         }
 
+        @Override
+        ItemStackInventory inventory()
+        {
+            return vessel;
+        }
+
+        /**
+         * Automation typically tries every slot in turn, so most slots are rejected using the vessel's slot index, without being inspected.
+         */
+        @NotNull
+        @Override
+        public ItemStack insertItem(int slot, ItemStack stack, boolean simulate)
+        {
+            if (stack.isEmpty() || !vessel.mayInsert(slot, stack))
+            {
+                return stack;
+            }
+            return super.insertItem(slot, stack, simulate);
+        }
+    }
+
+    /**
+     * An item handler over one of our inventories, with a slot limit of 64, or the max stack size of the item, if smaller.
+     */
+    abstract static class InventoryItemHandler implements IItemHandlerModifiable
+    {
+        abstract ItemStackInventory inventory();
+
         @Override
         public void setStackInSlot(int slot, ItemStack stack)
         {
-            vessel.set(slot, stack);
+            inventory().set(slot, stack);
         }
 
         @Override
         public int getSlots()
         {
-            return vessel.size();
+            return inventory().size();
         }
 
         @NotNull
         @Override
         public ItemStack getStackInSlot(int slot)
         {
-            return vessel.get(slot);
+            return inventory().get(slot);
         }
 
         @NotNull
         @Override
         public ItemStack insertItem(int slot, ItemStack stack, boolean simulate)
         {
+            final ItemStackInventory vessel = inventory();
             final ItemStack current = vessel.get(slot);
-            if (stack.isEmpty() || !vessel.canContain(stack) || !ItemHandlerHelper.canItemStacksStack(stack, current) || current.getCount() >= 64)
+            final int limit = Math.min(getSlotLimit(slot), stack.getMaxStackSize());
+            if (stack.isEmpty() || !vessel.canContain(stack) || !ItemHandlerHelper.canItemStacksStack(stack, current) || current.getCount() >= limit)
             {
                 return stack; // Cannot insert - inserting empty, cannot contain, cannot stack, or currently full.
             }
+            // Count the total, if it's over the limit we need to split and return remainder
+            final int total = current.getCount() + stack.getCount();
             if (current.isEmpty())
             {
-                // When the current is empty, we set the new stack directly and return zero excess.
+                // When the current is empty, we set a copy of the new stack (as the caller retains ownership of it), up to the limit.
                 if (!simulate)
                 {
-                    vessel.set(slot, stack);
+                    vessel.set(slot, ItemHandlerHelper.copyStackWithSize(stack, Math.min(total, limit)));
+                    Metrics.VESSEL_AUTOMATION_INSERTS.increment();
                 }
-                return ItemStack.EMPTY;
+                return total > limit ? ItemHandlerHelper.copyStackWithSize(stack, total - limit) : ItemStack.EMPTY;
             }
-            // Merging two stacks - count the total, if it's over the limit we need to split and return remainder
-            final int total = current.getCount() + stack.getCount();
-            if (total > 64)
+            if (total > limit)
             {
                 final ItemStack remainder = stack.copy();
-                remainder.setCount(total - 64);
+                remainder.setCount(total - limit);
                 if (!simulate)
                 {
-                    current.setCount(64);
+                    current.setCount(limit);
                     vessel.modified();
+                    Metrics.VESSEL_AUTOMATION_INSERTS.increment();
                 }
                 return remainder;
             }
@@ -111,6 +154,7 @@ public final class ForgeInventoryCapabilities
             {
                 current.setCount(total);
                 vessel.modified();
+                Metrics.VESSEL_AUTOMATION_INSERTS.increment();
             }
             return ItemStack.EMPTY;
         }
@@ -119,6 +163,7 @@ public final class ForgeInventoryCapabilities
         @Override
         public ItemStack extractItem(int slot, int amount, boolean simulate)
         {
+            final ItemStackInventory vessel = inventory();
             final ItemStack current = vessel.get(slot);
             if (current.isEmpty() || amount <= 0)
             {
@@ -130,6 +175,7 @@ public final class ForgeInventoryCapabilities
                 if (!simulate)
                 {
                     vessel.set(slot, ItemStack.EMPTY);
+                    Metrics.VESSEL_AUTOMATION_EXTRACTS.increment();
                 }
                 return current.copy();
             }
@@ -140,6 +186,7 @@ public final class ForgeInventoryCapabilities
             {
                 current.shrink(amount);
                 vessel.modified();
+                Metrics.VESSEL_AUTOMATION_EXTRACTS.increment();
             }
             return removed;
         }
@@ -153,14 +200,7 @@ public final class ForgeInventoryCapabilities
         @Override
         public boolean isItemValid(int slot, ItemStack stack)
         {
-            return vessel.canContain(stack);
-        }
-
-        @NotNull
-        @Override
-        public <T> LazyOptional<T> getCapability(Capability<T> cap, @Nullable Direction side)
-        {
-            return cap == ForgeCapabilities.ITEM_HANDLER ? capability.cast() : LazyOptional.empty();
+            return inventory().canContain(stack);
         }
     }
 }
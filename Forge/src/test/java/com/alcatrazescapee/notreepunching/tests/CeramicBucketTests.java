@@ -0,0 +1,67 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidType;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandlerItem;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import com.alcatrazescapee.notreepunching.common.items.ModItems;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
+
+/**
+ * GameTests for the ceramic bucket fluid handler, which should only be created for bucket stacks once it is queried, as capabilities are gathered for every copy of a stack.
+ */
+@GameTestHolder("notreepunching")
+public class CeramicBucketTests
+{
+    private static final int COPIES = 1000;
+
+    /**
+     * Filling an empty bucket through its fluid handler produces a water bucket, and draining it produces an empty bucket again.
+     */
+    @GameTest(template = "platform")
+    public static void test_ceramic_bucket_fill_and_drain(GameTestHelper helper)
+    {
+        final IFluidHandlerItem empty = new ItemStack(ModItems.CERAMIC_BUCKET.get()).getCapability(ForgeCapabilities.FLUID_HANDLER_ITEM).orElseThrow(() -> new IllegalStateException("Ceramic bucket should have a fluid handler"));
+
+        helper.assertTrue(empty.fill(new FluidStack(Fluids.WATER, FluidType.BUCKET_VOLUME), IFluidHandler.FluidAction.EXECUTE) == FluidType.BUCKET_VOLUME, "Empty bucket should be filled with water");
+        helper.assertTrue(empty.getContainer().getItem() == ModItems.CERAMIC_WATER_BUCKET.get(), "Filled bucket should be a water bucket");
+
+        final IFluidHandlerItem filled = empty.getContainer().getCapability(ForgeCapabilities.FLUID_HANDLER_ITEM).orElseThrow(() -> new IllegalStateException("Ceramic water bucket should have a fluid handler"));
+
+        helper.assertTrue(filled.drain(FluidType.BUCKET_VOLUME, IFluidHandler.FluidAction.EXECUTE).getFluid() == Fluids.WATER, "Water bucket should be drained of water");
+        helper.assertTrue(filled.getContainer().getItem() == ModItems.CERAMIC_BUCKET.get(), "Drained bucket should be an empty bucket");
+        helper.assertTrue(!new ItemStack(ModItems.CERAMIC_BUCKET.get()).getCapability(ForgeCapabilities.ITEM_HANDLER).isPresent(), "Ceramic bucket should not have an item handler");
+        helper.succeed();
+    }
+
+    /**
+     * Copies stacks of empty and water buckets, without ever querying their capabilities, as inventory syncs do, which should not create any fluid handler.
+     * The handler is created when first resolved, and reused for later queries of the same stack.
+     */
+    @GameTest(template = "platform")
+    public static void test_ceramic_bucket_fluid_handler_is_lazy(GameTestHelper helper)
+    {
+        final ItemStack[] buckets = {new ItemStack(ModItems.CERAMIC_BUCKET.get()), new ItemStack(ModItems.CERAMIC_WATER_BUCKET.get())};
+        final long startHandlers = Metrics.CERAMIC_BUCKET_FLUID_HANDLERS.get();
+        ItemStack copy = ItemStack.EMPTY;
+        for (int i = 0; i < COPIES; i++)
+        {
+            copy = buckets[i & 1].copy();
+        }
+        helper.assertTrue(Metrics.CERAMIC_BUCKET_FLUID_HANDLERS.get() == startHandlers, "Copying buckets should not create fluid handlers");
+
+        final LazyOptional<IFluidHandlerItem> handler = copy.getCapability(ForgeCapabilities.FLUID_HANDLER_ITEM);
+        helper.assertTrue(Metrics.CERAMIC_BUCKET_FLUID_HANDLERS.get() == startHandlers, "Querying the capability should not create the fluid handler until it is resolved");
+        helper.assertTrue(handler.resolve().isPresent() && Metrics.CERAMIC_BUCKET_FLUID_HANDLERS.get() == startHandlers + 1, "Resolving the capability should create one fluid handler");
+        helper.assertTrue(copy.getCapability(ForgeCapabilities.FLUID_HANDLER_ITEM).resolve().isPresent() && Metrics.CERAMIC_BUCKET_FLUID_HANDLERS.get() == startHandlers + 1, "Querying the same stack again should reuse the fluid handler");
+        helper.succeed();
+    }
+}
@@ -0,0 +1,285 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.event.ForgeEventFactory;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import com.alcatrazescapee.notreepunching.Config;
+import com.alcatrazescapee.notreepunching.ForgeConfig;
+import com.alcatrazescapee.notreepunching.common.items.ModItems;
+import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.util.HarvestTable;
+
+/**
+ * A load test of the harvest rules, with simulated players continuously mining mixed terrain with varied tools.
+ * <ul>
+ *     <li>The number of players, the duration, and the regression thresholds are checked in to {@code harvest_load_thresholds.json}. The players and duration may be overridden with the {@code notreepunching.loadTest.players} and {@code notreepunching.loadTest.seconds} system properties.</li>
+ *     <li>Every tick, each player fires {@code BreakSpeed} and {@code HarvestCheck} through Forge, and then breaks its block through the real game mode, which is then replaced. The whole load is timed as one sample per tick.</li>
+ *     <li>The same load is run in alternating segments with our rules enabled, and disabled with {@code doBlocksMineWithoutCorrectTool} and {@code doBlocksDropWithoutCorrectTool}. The added MSPT is the difference in the average tick time between the two. Players mine a new block every tick, which fires {@code HarvestCheck} far more often than real mining does, so it is an upper bound.</li>
+ *     <li>The test runs in its own batch, so no other tests run alongside it, or see the config while it is toggled. The thresholds are loose enough for shared CI machines, and are meant to catch large regressions.</li>
+ * </ul>
+ */
+@GameTestHolder("notreepunching")
+public class HarvestLoadTests
+{
+    private static final String THRESHOLDS = "/harvest_load_thresholds.json";
+    private static final int MAX_SECONDS = 60;
+    private static final int WARMUP_TICKS = 40;
+    private static final int SETTLE_TICKS = 10; // Ticks after each toggle which are not measured
+    private static final int SEGMENT_TICKS = 40; // Measured ticks in each segment
+
+    private static final Block[] TERRAIN = {
+        Blocks.STONE, Blocks.DIRT, Blocks.OAK_LOG, Blocks.GRASS, Blocks.POPPY,
+        Blocks.SAND, Blocks.COBBLESTONE, Blocks.DANDELION, Blocks.GRAVEL, Blocks.FERN,
+        Blocks.OAK_PLANKS, Blocks.COAL_ORE, Blocks.OXEYE_DAISY, Blocks.CLAY, Blocks.BIRCH_LOG
+    };
+
+    private static ItemStack[] tools()
+    {
+        return new ItemStack[] {
+            ItemStack.EMPTY,
+            new ItemStack(ModItems.FLINT_KNIFE.get()),
+            new ItemStack(ModItems.FLINT_AXE.get()),
+            new ItemStack(ModItems.FLINT_PICKAXE.get()),
+            new ItemStack(ModItems.FLINT_SHOVEL.get()),
+            new ItemStack(ModItems.IRON_MATTOCK.get()),
+            new ItemStack(Items.IRON_PICKAXE),
+            new ItemStack(Items.STICK)
+        };
+    }
+
+    @GameTest(template = "5x5_platform", batch = "harvest_load", timeoutTicks = WARMUP_TICKS + 2 * (MAX_SECONDS * 20 + (MAX_SECONDS * 20 / SEGMENT_TICKS + 1) * SETTLE_TICKS) + 200)
+    public static void test_harvest_rules_under_load(GameTestHelper helper)
+    {
+        final JsonObject thresholds = loadThresholds();
+        final int players = Integer.getInteger("notreepunching.loadTest.players", GsonHelper.getAsInt(thresholds, "players"));
+        final int seconds = Math.min(MAX_SECONDS, Integer.getInteger("notreepunching.loadTest.seconds", GsonHelper.getAsInt(thresholds, "seconds")));
+
+        // Each mode is measured for at least the requested time, in whole segments
+        final int segments = 2 * ((seconds * 20 + SEGMENT_TICKS - 1) / SEGMENT_TICKS);
+        final int totalTicks = WARMUP_TICKS + segments * (SETTLE_TICKS + SEGMENT_TICKS);
+
+        final LoadRun run = new LoadRun(helper, players, segments / 2 * SEGMENT_TICKS);
+        for (int tick = 0; tick < totalTicks; tick++)
+        {
+            final int currentTick = tick;
+            helper.runAfterDelay(tick + 1, () -> run.tick(currentTick));
+        }
+        helper.runAfterDelay(totalTicks + 1, () -> run.finish(thresholds));
+    }
+
+    private static JsonObject loadThresholds()
+    {
+        try (InputStream stream = HarvestLoadTests.class.getResourceAsStream(THRESHOLDS))
+        {
+            if (stream == null)
+            {
+                throw new IllegalStateException("Missing " + THRESHOLDS);
+            }
+            return JsonParser.parseReader(new InputStreamReader(stream, StandardCharsets.UTF_8)).getAsJsonObject();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double percentileMicros(long[] samples, int count, double fraction)
+    {
+        if (count == 0)
+        {
+            return 0;
+        }
+        final long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(fraction * count) - 1)] / 1000.0;
+    }
+
+    /**
+     * Our listeners stay registered either way, but with both options enabled they return before checking any tool, which is as close to the mod not being present as the config allows.
+     */
+    private static void setRulesEnabled(boolean enabled)
+    {
+        ForgeConfig.doBlocksMineWithoutCorrectTool.set(!enabled);
+        ForgeConfig.doBlocksDropWithoutCorrectTool.set(!enabled);
+        ForgeConfig.clearCache();
+        Config.INSTANCE.resolve();
+        HarvestTable.invalidate();
+    }
+
+    static final class LoadRun
+    {
+        private static final int RULES = 0, BASELINE = 1;
+
+        private final GameTestHelper helper;
+        private final FakePlayer[] players;
+        private final ItemStack[] tools = tools();
+        private final BlockPos[] positions;
+        private final int ticksPerMode;
+        private final boolean originalMine, originalDrop;
+
+        private final long[] breakSpeedNanos, harvestCheckNanos;
+        private final long[] loadNanos = new long[2], loadBytes = new long[2];
+        private final int[] measuredTicks = new int[2];
+        private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private int samples;
+        private long blocksBroken;
+
+        LoadRun(GameTestHelper helper, int playerCount, int ticksPerMode)
+        {
+            this.helper = helper;
+            this.ticksPerMode = ticksPerMode;
+            this.originalMine = ForgeConfig.doBlocksMineWithoutCorrectTool.get();
+            this.originalDrop = ForgeConfig.doBlocksDropWithoutCorrectTool.get();
+            this.players = new FakePlayer[playerCount];
+            for (int i = 0; i < playerCount; i++)
+            {
+                final String name = "ntp_load_" + i;
+                final FakePlayer player = FakePlayerFactory.get(helper.getLevel(), new GameProfile(UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)), name));
+                player.setGameMode(GameType.SURVIVAL);
+                players[i] = player;
+            }
+
+            this.positions = new BlockPos[25];
+            for (int x = 0; x < 5; x++)
+            {
+                for (int z = 0; z < 5; z++)
+                {
+                    final int index = x * 5 + z;
+                    positions[index] = new BlockPos(x, 1, z);
+                    helper.setBlock(positions[index], TERRAIN[index % TERRAIN.length]);
+                }
+            }
+
+            this.breakSpeedNanos = new long[playerCount * ticksPerMode];
+            this.harvestCheckNanos = new long[playerCount * ticksPerMode];
+        }
+
+        void tick(int tick)
+        {
+            // Segments alternate between the rules enabled and disabled, starting with enabled during the warmup
+            int mode = RULES;
+            boolean measured = false;
+            if (tick == 0)
+            {
+                setRulesEnabled(true);
+            }
+            else if (tick >= WARMUP_TICKS)
+            {
+                final int segment = (tick - WARMUP_TICKS) / (SETTLE_TICKS + SEGMENT_TICKS);
+                final int phase = (tick - WARMUP_TICKS) % (SETTLE_TICKS + SEGMENT_TICKS);
+                mode = segment % 2 == 0 ? RULES : BASELINE;
+                measured = phase >= SETTLE_TICKS;
+                if (phase == 0)
+                {
+                    setRulesEnabled(mode == RULES);
+                }
+            }
+
+            final long startBytes = threads.getCurrentThreadAllocatedBytes();
+            final long startTime = System.nanoTime();
+
+            // Both events are fired through Forge, so the time includes dispatch to every listener, not just ours
+            for (int i = 0; i < players.length; i++)
+            {
+                final FakePlayer player = players[i];
+                final BlockPos pos = helper.absolutePos(positions[(tick + i * 7) % positions.length]);
+                final BlockState state = helper.getLevel().getBlockState(pos);
+                player.setItemInHand(InteractionHand.MAIN_HAND, tools[(tick / 5 + i) % tools.length].copy());
+                player.setPos(pos.getX() + 0.5, pos.getY() - 1.0, pos.getZ() + 0.5);
+
+                final long eventStart = System.nanoTime();
+                player.getDigSpeed(state, pos);
+                final long eventMid = System.nanoTime();
+                ForgeEventFactory.doPlayerHarvestCheck(player, state, true);
+                final long eventEnd = System.nanoTime();
+
+                if (measured && mode == RULES)
+                {
+                    breakSpeedNanos[samples] = eventMid - eventStart;
+                    harvestCheckNanos[samples] = eventEnd - eventMid;
+                    samples++;
+                }
+            }
+
+            // The full break, through the game mode, including drops, after which the block is replaced
+            for (int i = 0; i < players.length; i++)
+            {
+                final BlockPos relativePos = positions[(tick + i * 7) % positions.length];
+                if (players[i].gameMode.destroyBlock(helper.absolutePos(relativePos)))
+                {
+                    blocksBroken++;
+                }
+                helper.setBlock(relativePos, TERRAIN[(relativePos.getX() * 5 + relativePos.getZ()) % TERRAIN.length]);
+            }
+
+            final long endTime = System.nanoTime();
+            final long endBytes = threads.getCurrentThreadAllocatedBytes();
+            if (measured)
+            {
+                loadNanos[mode] += endTime - startTime;
+                loadBytes[mode] += endBytes - startBytes;
+                measuredTicks[mode]++;
+            }
+
+            for (ItemEntity item : helper.getLevel().getEntitiesOfClass(ItemEntity.class, new AABB(helper.absolutePos(BlockPos.ZERO)).inflate(8)))
+            {
+                item.remove(Entity.RemovalReason.DISCARDED);
+            }
+        }
+
+        void finish(JsonObject thresholds)
+        {
+            // Restore the config before asserting, so a failure does not leave the rules disabled
+            ForgeConfig.doBlocksMineWithoutCorrectTool.set(originalMine);
+            ForgeConfig.doBlocksDropWithoutCorrectTool.set(originalDrop);
+            ForgeConfig.clearCache();
+            Config.INSTANCE.resolve();
+            HarvestTable.invalidate();
+
+            final double rulesMsPerTick = loadNanos[RULES] / 1_000_000.0 / Math.max(1, measuredTicks[RULES]);
+            final double baselineMsPerTick = loadNanos[BASELINE] / 1_000_000.0 / Math.max(1, measuredTicks[BASELINE]);
+            final double addedMspt = rulesMsPerTick - baselineMsPerTick;
+            final double addedBytesPerEvent = ((double) loadBytes[RULES] / Math.max(1, measuredTicks[RULES]) - (double) loadBytes[BASELINE] / Math.max(1, measuredTicks[BASELINE])) / (2 * players.length);
+            final double breakSpeedP50 = percentileMicros(breakSpeedNanos, samples, 0.5), breakSpeedP99 = percentileMicros(breakSpeedNanos, samples, 0.99);
+            final double harvestCheckP50 = percentileMicros(harvestCheckNanos, samples, 0.5), harvestCheckP99 = percentileMicros(harvestCheckNanos, samples, 0.99);
+
+            DebugUtil.info(null, "Harvest load: %d players for %d ticks per mode, %d blocks broken, server average tick %.2fms", players.length, ticksPerMode, blocksBroken, helper.getLevel().getServer().getAverageTickTime());
+            DebugUtil.info(null, "Harvest load: %.3f ms per tick with our rules, %.3f ms per tick without, added MSPT %.3f", rulesMsPerTick, baselineMsPerTick, addedMspt);
+            DebugUtil.info(null, "Harvest load: BreakSpeed p50 %.1fus p99 %.1fus, HarvestCheck p50 %.1fus p99 %.1fus", breakSpeedP50, breakSpeedP99, harvestCheckP50, harvestCheckP99);
+            DebugUtil.info(null, "Harvest load: %.1f added bytes per event", addedBytesPerEvent);
+
+            helper.assertTrue(addedMspt <= GsonHelper.getAsDouble(thresholds, "max_added_mspt"), "Added MSPT %.3f exceeds threshold".formatted(addedMspt));
+            helper.assertTrue(breakSpeedP99 <= GsonHelper.getAsDouble(thresholds, "max_break_speed_p99_us"), "BreakSpeed p99 %.1fus exceeds threshold".formatted(breakSpeedP99));
+            helper.assertTrue(harvestCheckP99 <= GsonHelper.getAsDouble(thresholds, "max_harvest_check_p99_us"), "HarvestCheck p99 %.1fus exceeds threshold".formatted(harvestCheckP99));
+            helper.assertTrue(addedBytesPerEvent <= GsonHelper.getAsDouble(thresholds, "max_added_bytes_per_event"), "%.1f added bytes per event exceeds threshold".formatted(addedBytesPerEvent));
+            helper.succeed();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import com.alcatrazescapee.notreepunching.common.ModTags;
+import com.alcatrazescapee.notreepunching.common.blocks.LooseRockBlock;
+import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.world.LooseRocksFeature;
+import com.alcatrazescapee.notreepunching.world.ModFeatures;
+
+/**
+ * GameTests for loose rock placement, which is attempted five times in every generated overworld chunk.
+ */
+@GameTestHolder("notreepunching")
+public class LooseRocksTests
+{
+    private static final int CHUNK_RADIUS = 4;
+    private static final int ATTEMPTS_PER_CHUNK = 5;
+    private static final int ROUNDS = 20;
+
+    /**
+     * Makes the same attempts as the placed feature (five per chunk, at a random position on the surface) in the chunks around the test, once with the default placement and once with heightmap placement.
+     * Both modes are warmed up first, and then run alternately, so neither is measured cold. Logs the time per chunk for each, and checks that both only place rocks on valid surfaces.
+     */
+    @GameTest(template = "platform")
+    public static void test_loose_rock_placement_modes(GameTestHelper helper)
+    {
+        final ServerLevel level = helper.getLevel();
+        final LooseRocksFeature feature = ModFeatures.LOOSE_ROCKS.get();
+        final ChunkPos center = new ChunkPos(helper.absolutePos(BlockPos.ZERO));
+
+        // Warm up, which also loads the chunks and computes their heightmaps
+        attemptPlacements(helper, level, feature, center, false);
+        attemptPlacements(helper, level, feature, center, true);
+
+        final long[] nanos = new long[2];
+        final int[] placed = new int[2];
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            for (int i = 0; i < 2; i++)
+            {
+                final int mode = (round + i) % 2; // Alternate which mode goes first
+                final long startTime = System.nanoTime();
+                placed[mode] += attemptPlacements(helper, level, feature, center, mode == 1);
+                nanos[mode] += System.nanoTime() - startTime;
+            }
+        }
+
+        final int chunks = (2 * CHUNK_RADIUS + 1) * (2 * CHUNK_RADIUS + 1) * ROUNDS;
+        DebugUtil.info(null, "Loose rock placement: %d attempts in %d chunks, default placement %.1fus per chunk (%d placed), heightmap placement %.1fus per chunk (%d placed)", chunks * ATTEMPTS_PER_CHUNK, chunks, nanos[0] / 1000.0 / chunks, placed[0], nanos[1] / 1000.0 / chunks, placed[1]);
+        helper.succeed();
+    }
+
+    /**
+     * Any rock that is placed must be a loose rock on top of a block it may be placed on, and is removed again, so every round sees the same terrain.
+     */
+    private static int attemptPlacements(GameTestHelper helper, ServerLevel level, LooseRocksFeature feature, ChunkPos center, boolean useHeightmap)
+    {
+        final RandomSource random = RandomSource.create(center.toLong());
+        int placed = 0;
+        for (int chunkX = center.x - CHUNK_RADIUS; chunkX <= center.x + CHUNK_RADIUS; chunkX++)
+        {
+            for (int chunkZ = center.z - CHUNK_RADIUS; chunkZ <= center.z + CHUNK_RADIUS; chunkZ++)
+            {
+                for (int i = 0; i < ATTEMPTS_PER_CHUNK; i++)
+                {
+                    final int x = (chunkX << 4) + random.nextInt(16), z = (chunkZ << 4) + random.nextInt(16);
+                    final BlockPos origin = new BlockPos(x, level.getHeight(Heightmap.Types.WORLD_SURFACE, x, z), z);
+                    if (feature.place(level, origin, useHeightmap))
+                    {
+                        placed++;
+                        final BlockPos pos = new BlockPos(x, level.getHeight(Heightmap.Types.WORLD_SURFACE, x, z) - 1, z);
+                        helper.assertTrue(level.getBlockState(pos).getBlock() instanceof LooseRockBlock, "Expected a loose rock on the surface at " + pos + " with " + (useHeightmap ? "heightmap" : "default") + " placement, got " + level.getBlockState(pos));
+                        helper.assertTrue(level.getBlockState(pos.below()).is(ModTags.Blocks.LOOSE_ROCK_PLACEABLE_ON), "Loose rock at " + pos + " was placed on " + level.getBlockState(pos.below()));
+                        level.setBlock(pos, Blocks.AIR.defaultBlockState(), 3);
+                    }
+                }
+            }
+        }
+        return placed;
+    }
+}
@@ -0,0 +1,130 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import java.util.Map;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import com.alcatrazescapee.notreepunching.common.items.ModItems;
+import com.alcatrazescapee.notreepunching.mixin.AxeItemAccessor;
+import com.alcatrazescapee.notreepunching.mixin.HoeItemAccessor;
+import com.alcatrazescapee.notreepunching.mixin.ShovelItemAccessor;
+
+/**
+ * GameTests for the mattock, which combines the axe, shovel, and hoe actions, with the shovel taking priority over the hoe unless sneaking.
+ */
+@GameTestHolder("notreepunching")
+public class MattockTests
+{
+    private static final BlockPos POS = new BlockPos(1, 1, 1); // Place above the platform
+
+    /**
+     * Every vanilla strippable block is stripped into its stripped variant.
+     */
+    @GameTest(template = "platform")
+    public static void test_mattock_strips_all_strippable_blocks(GameTestHelper helper)
+    {
+        for (Map.Entry<Block, Block> entry : AxeItemAccessor.getStrippables().entrySet())
+        {
+            final BlockState after = useMattock(helper, entry.getKey(), false);
+            helper.assertTrue(after.getBlock() == entry.getValue(), "Mattock should strip " + name(entry.getKey()) + " into " + name(entry.getValue()) + ", but got " + name(after.getBlock()));
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Every vanilla tillable block is tilled when sneaking, as the hoe takes priority over the shovel.
+     */
+    @GameTest(template = "platform")
+    public static void test_mattock_tills_all_tillable_blocks_when_sneaking(GameTestHelper helper)
+    {
+        for (Block block : HoeItemAccessor.getTillables().keySet())
+        {
+            final BlockState after = useMattock(helper, block, true);
+            helper.assertTrue(after.getBlock() == Blocks.FARMLAND || after.getBlock() == Blocks.DIRT, "Mattock should till " + name(block) + " when sneaking, but got " + name(after.getBlock()));
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Blocks which are both tillable and flattenable are flattened when not sneaking, and tillable only blocks are still tilled.
+     */
+    @GameTest(template = "platform")
+    public static void test_mattock_flattens_before_tilling_when_not_sneaking(GameTestHelper helper)
+    {
+        final Map<Block, BlockState> flattenables = ShovelItemAccessor.getFlattenables();
+        for (Block block : HoeItemAccessor.getTillables().keySet())
+        {
+            final BlockState after = useMattock(helper, block, false);
+            final BlockState flattened = flattenables.get(block);
+            if (flattened != null)
+            {
+                helper.assertTrue(after.getBlock() == flattened.getBlock(), "Mattock should flatten " + name(block) + " when not sneaking, but got " + name(after.getBlock()));
+            }
+            else
+            {
+                helper.assertTrue(after.getBlock() != block, "Mattock should till " + name(block) + " when not sneaking, as it cannot be flattened");
+            }
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Blocks without any action pass, and are left unchanged.
+     */
+    @GameTest(template = "platform")
+    public static void test_mattock_passes_on_other_blocks(GameTestHelper helper)
+    {
+        final FakePlayer player = player(helper, false);
+        helper.setBlock(POS, Blocks.STONE);
+        final InteractionResult result = player.getMainHandItem().useOn(context(helper, player));
+        helper.assertTrue(result == InteractionResult.PASS, "Mattock should pass on stone, but got " + result);
+        helper.assertBlockPresent(Blocks.STONE, POS);
+        helper.succeed();
+    }
+
+    private static BlockState useMattock(GameTestHelper helper, Block block, boolean sneaking)
+    {
+        final FakePlayer player = player(helper, sneaking);
+        helper.setBlock(POS.above(), Blocks.AIR);
+        helper.setBlock(POS, block);
+        player.getMainHandItem().useOn(context(helper, player));
+        final BlockState after = helper.getBlockState(POS);
+        helper.setBlock(POS, Blocks.AIR);
+        return after;
+    }
+
+    private static FakePlayer player(GameTestHelper helper, boolean sneaking)
+    {
+        final FakePlayer player = FakePlayerFactory.getMinecraft((ServerLevel) helper.getLevel());
+        player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(ModItems.DIAMOND_MATTOCK.get()));
+        player.setShiftKeyDown(sneaking);
+        return player;
+    }
+
+    private static UseOnContext context(GameTestHelper helper, FakePlayer player)
+    {
+        final BlockPos pos = helper.absolutePos(POS);
+        return new UseOnContext(player, InteractionHand.MAIN_HAND, new BlockHitResult(Vec3.atCenterOf(pos).add(0, 0.5, 0), Direction.UP, pos, false));
+    }
+
+    private static String name(Block block)
+    {
+        return BuiltInRegistries.BLOCK.getKey(block).toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundUpdateRecipesPacket;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import com.alcatrazescapee.notreepunching.common.recipes.EmptyRecipe;
+import com.alcatrazescapee.notreepunching.common.recipes.ModRecipes;
+import com.alcatrazescapee.notreepunching.util.DebugUtil;
+
+/**
+ * GameTests for recipes removed via {@link EmptyRecipe}, which should be gone from the recipe manager, and from the recipes synced to clients on login.
+ */
+@GameTestHolder("notreepunching")
+public class RecipeRemovalTests
+{
+    /**
+     * Verifies a known removed recipe (sticks) is recorded and gone, no removed recipe, or placeholder, is left in the recipe manager, and logs the size of the recipe sync packet sent to each client on login, along with the time to write it.
+     */
+    @GameTest(template = "platform")
+    public static void test_removed_recipes_are_not_synced(GameTestHelper helper)
+    {
+        final RecipeManager recipeManager = helper.getLevel().getRecipeManager();
+        final ResourceLocation stick = new ResourceLocation("minecraft", "stick");
+        helper.assertTrue(ModRecipes.removedRecipes().contains(stick), "The stick recipe should be recorded as removed");
+        helper.assertTrue(recipeManager.byKey(stick).isEmpty(), "The stick recipe should not be present");
+        for (ResourceLocation id : ModRecipes.removedRecipes())
+        {
+            helper.assertTrue(recipeManager.byKey(id).isEmpty(), "Removed recipe " + id + " should not be present");
+        }
+        for (Recipe<?> recipe : recipeManager.getRecipes())
+        {
+            helper.assertTrue(!(recipe instanceof EmptyRecipe) && recipe.getType() != ModRecipes.EMPTY_TYPE.get(), "Empty recipe " + recipe.getId() + " should have been deleted");
+        }
+
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        final long startTime = System.nanoTime();
+        new ClientboundUpdateRecipesPacket(recipeManager.getRecipes()).write(buffer);
+        final long duration = System.nanoTime() - startTime;
+
+        DebugUtil.info(null, "Recipe sync: %d recipes (%d removed) in %d bytes, written in %.1fms", recipeManager.getRecipes().size(), ModRecipes.removedRecipes().size(), buffer.readableBytes(), duration / 1_000_000.0);
+
+        buffer.release();
+        helper.succeed();
+    }
+}
@@ -19,12 +19,29 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.common.util.FakePlayerFactory;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.Block;
+import io.netty.buffer.Unpooled;
+import com.google.gson.JsonObject;
 
 import com.alcatrazescapee.notreepunching.common.items.ModItems;
+import com.alcatrazescapee.notreepunching.Config;
 import com.alcatrazescapee.notreepunching.EventHandler;
+import com.alcatrazescapee.notreepunching.common.ModTags;
 import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.util.HarvestBlockHandler;
+import com.alcatrazescapee.notreepunching.util.HarvestTable;
+import com.alcatrazescapee.notreepunching.util.SharpToolUtil;
+import com.alcatrazescapee.notreepunching.util.jfr.HarvestCheckEvent;
+import com.alcatrazescapee.notreepunching.util.metrics.Metrics;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 /**
  * Comprehensive GameTests for the Sharp Tool harvesting mechanics in No Tree Punching mod.
@@ -34,6 +51,8 @@ import java.util.List;
 @GameTestHolder("notreepunching")
 public class SharpToolHarvestTests
 {
+    private static final int HARVEST_CHECKS = 100_000;
+
     /**
      * Helper method to clear any stray ItemEntity in a small radius around the position.
      * This prevents leftovers from previous actions from polluting the assertions.
@@ -392,4 +411,114 @@ public class SharpToolHarvestTests
             helper.succeed();
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies the harvest table synced to clients survives encoding, and agrees with the server's tags and config for every block state.
+     * Logs the encoded size, which is sent to each client on login and reload.
+     */
+    @GameTest(template = "platform")
+    public static void test_harvest_table_round_trip(GameTestHelper helper)
+    {
+        final HarvestTable local = HarvestTable.local();
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        local.encode(buffer);
+        final int size = buffer.readableBytes();
+        final HarvestTable decoded = HarvestTable.decode(buffer);
+        buffer.release();
+
+        helper.assertTrue(decoded.blocksMineWithoutCorrectTool() == Config.INSTANCE.doBlocksMineWithoutCorrectTool.getAsBoolean(), "Mine without correct tool should match config");
+        helper.assertTrue(decoded.instantBreakBlocksMineWithoutCorrectTool() == Config.INSTANCE.doInstantBreakBlocksMineWithoutCorrectTool.getAsBoolean(), "Instant break mine without correct tool should match config");
+        helper.assertTrue(decoded.blocksDropWithoutCorrectTool() == Config.INSTANCE.doBlocksDropWithoutCorrectTool.getAsBoolean(), "Drop without correct tool should match config");
+        helper.assertTrue(decoded.instantBreakBlocksDropWithoutCorrectTool() == Config.INSTANCE.doInstantBreakBlocksDropWithoutCorrectTool.getAsBoolean(), "Instant break drop without correct tool should match config");
+        helper.assertTrue(decoded.sharpToolSystemEnabled() == Config.INSTANCE.enableSharpToolSystem.getAsBoolean(), "Sharp tool system should match config");
+
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY)
+        {
+            helper.assertTrue(decoded.is(state, HarvestTable.ALWAYS_BREAKABLE) == state.is(ModTags.Blocks.ALWAYS_BREAKABLE), "Always breakable should match tag for " + state);
+            helper.assertTrue(decoded.is(state, HarvestTable.ALWAYS_DROPS) == state.is(ModTags.Blocks.ALWAYS_DROPS), "Always drops should match tag for " + state);
+            helper.assertTrue(decoded.is(state, HarvestTable.MINEABLE) == state.is(ModTags.Blocks.MINEABLE), "Mineable should match tag for " + state);
+            helper.assertTrue(decoded.requiresSharpTool(state) == SharpToolUtil.requiresSharpTool(state), "Requires sharp tool should match for " + state);
+        }
+
+        DebugUtil.info(null, "Harvest table: %d block states, %d classifications, in %d bytes", Block.BLOCK_STATE_REGISTRY.size(), decoded.paletteSize(), size);
+        helper.succeed();
+    }
+
+    /**
+     * Verifies harvest checks are recorded as JFR events when enabled, and logs the cost of harvest checks when they are not, which is the default.
+     */
+    @GameTest(template = "platform")
+    public static void test_harvest_check_jfr_events(GameTestHelper helper) throws IOException
+    {
+        final FakePlayer player = FakePlayerFactory.getMinecraft(helper.getLevel());
+        player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(ModItems.FLINT_KNIFE.get()));
+        final BlockState state = Blocks.POPPY.defaultBlockState();
+
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < HARVEST_CHECKS; i++)
+        {
+            HarvestBlockHandler.isUsingCorrectToolForDrops(state, null, player);
+        }
+        final long duration = System.nanoTime() - startTime;
+        DebugUtil.info(null, "Harvest checks: %d with JFR events disabled in %.1fms", HARVEST_CHECKS, duration / 1_000_000.0);
+
+        final Path file = Files.createTempFile("notreepunching", ".jfr");
+        try (Recording recording = new Recording())
+        {
+            recording.enable(HarvestCheckEvent.class);
+            recording.start();
+            final boolean result = HarvestBlockHandler.isUsingCorrectToolForDrops(state, null, player);
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            helper.assertTrue(events.size() == 1, "Expected one harvest check event, but got " + events.size());
+
+            final RecordedEvent event = events.get(0);
+            helper.assertTrue(event.getEventType().getName().equals("notreepunching.HarvestCheck"), "Unexpected event " + event.getEventType().getName());
+            helper.assertTrue(event.getBoolean("result") == result, "Event result should match the check");
+            helper.assertTrue(event.getString("check") != null && event.getString("state").equals(state.toString()), "Event should record the deciding check and block state");
+        }
+        finally
+        {
+            Files.deleteIfExists(file);
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Verifies harvest checks are counted by their deciding check, and timed, and that both are included in the metrics file.
+     */
+    @GameTest(template = "platform")
+    public static void test_harvest_check_metrics(GameTestHelper helper)
+    {
+        final FakePlayer player = FakePlayerFactory.getMinecraft(helper.getLevel());
+        player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(ModItems.FLINT_KNIFE.get()));
+        final BlockState state = Blocks.POPPY.defaultBlockState();
+
+        final long checksBefore = Metrics.HARVEST_CHECK_LATENCY.count();
+        final long decidedBefore = countHarvestChecks();
+        for (int i = 0; i < HARVEST_CHECKS; i++)
+        {
+            HarvestBlockHandler.isUsingCorrectToolForDrops(state, null, player);
+        }
+
+        helper.assertTrue(Metrics.HARVEST_CHECK_LATENCY.count() - checksBefore == HARVEST_CHECKS, "Every harvest check should be timed");
+        helper.assertTrue(countHarvestChecks() - decidedBefore == HARVEST_CHECKS, "Every harvest check should be counted by its deciding check");
+
+        final JsonObject json = Metrics.toJson();
+        helper.assertTrue(json.getAsJsonObject("histograms").has("harvest_check.latency"), "Metrics file should include harvest check latency");
+        helper.assertTrue(json.getAsJsonObject("counters").keySet().stream().anyMatch(name -> name.startsWith("harvest_check.")), "Metrics file should include harvest check counters");
+
+        Metrics.report().forEach(line -> DebugUtil.info(null, "Metrics: %s", line));
+        helper.succeed();
+    }
+
+    private static long countHarvestChecks()
+    {
+        return Metrics.counters().entrySet().stream()
+            .filter(e -> e.getKey().startsWith("harvest_check."))
+            .mapToLong(e -> e.getValue().get())
+            .sum();
+    }
+}
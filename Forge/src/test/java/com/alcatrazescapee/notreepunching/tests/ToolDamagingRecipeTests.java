@@ -0,0 +1,161 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import net.minecraft.core.NonNullList;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.inventory.CraftingMenu;
+import net.minecraft.world.inventory.TransientCraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.CraftingBookCategory;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import com.alcatrazescapee.notreepunching.common.ModTags;
+import com.alcatrazescapee.notreepunching.common.items.ModItems;
+import com.alcatrazescapee.notreepunching.common.recipes.ModRecipes;
+import com.alcatrazescapee.notreepunching.common.recipes.ToolDamagingRecipe;
+import com.alcatrazescapee.notreepunching.platform.XPlatform;
+import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.util.Helpers;
+
+/**
+ * GameTests for matching tool damaging recipes against a crafting grid, which happens for every crafting recipe on every change to the grid.
+ */
+@GameTestHolder("notreepunching")
+public class ToolDamagingRecipeTests
+{
+    private static final int RECIPES = 40_000;
+    private static final int WOOD_TYPES = 150;
+
+    /**
+     * Matches a synthetic pack of 40k saw recipes, in the same shape as the generated log to plank recipes, against a grid with no tool in it, and against a grid with a saw and a log.
+     * Logs the duration of matching every recipe against each grid.
+     */
+    @GameTest(template = "platform")
+    public static void test_tool_damaging_recipe_matching_performance(GameTestHelper helper)
+    {
+        final Item[] logs = {Items.OAK_LOG, Items.BIRCH_LOG, Items.SPRUCE_LOG, Items.JUNGLE_LOG, Items.ACACIA_LOG, Items.DARK_OAK_LOG, Items.MANGROVE_LOG, Items.CHERRY_LOG};
+        final List<ToolDamagingRecipe> recipes = new ArrayList<>(RECIPES);
+        for (int i = 0; i < RECIPES; i++)
+        {
+            final Ingredient saw = Ingredient.of(ModTags.Items.SAWS);
+            final ShapedRecipe recipe = new ShapedRecipe(Helpers.identifier("test/saw_" + i), "", CraftingBookCategory.BUILDING, 1, 2, NonNullList.of(Ingredient.EMPTY, saw, Ingredient.of(logs[i % logs.length])), new ItemStack(Items.OAK_PLANKS, 4));
+            recipes.add(XPlatform.INSTANCE.shapedToolDamagingRecipe(recipe.getId(), recipe, saw));
+        }
+
+        final FakePlayer player = FakePlayerFactory.getMinecraft((ServerLevel) helper.getLevel());
+        final CraftingContainer grid = new TransientCraftingContainer(new CraftingMenu(0, player.getInventory()), 3, 3);
+
+        // A grid with no tool, as when crafting anything other than a tool damaging recipe
+        grid.setItem(0, new ItemStack(Items.OAK_PLANKS));
+        grid.setItem(3, new ItemStack(Items.OAK_PLANKS));
+        final long noToolDuration = timeMatches(helper, recipes, grid, 0);
+
+        // A saw above an oak log, which matches every oak log recipe
+        grid.clearContent();
+        grid.setItem(0, new ItemStack(ModItems.IRON_SAW.get()));
+        grid.setItem(3, new ItemStack(Items.OAK_LOG));
+        final long sawDuration = timeMatches(helper, recipes, grid, RECIPES / logs.length);
+
+        DebugUtil.info(null, "Tool damaging recipe matching: %d recipes in %.1fms without a tool, and %.1fms with a saw", RECIPES, noToolDuration / 1_000_000.0, sawDuration / 1_000_000.0);
+        helper.succeed();
+    }
+
+    /**
+     * The log to plank recipes generated on recipe reload should all share one saw ingredient, and one weak saw ingredient, both in the pattern and as the tool, so each tag is only resolved into items once.
+     * Also logs the heap retained by 150 wood types worth of recipes generated with and without shared ingredients, which is informational only, as heap measurements are not reliable enough to assert on.
+     */
+    @GameTest(template = "platform")
+    public static void test_generated_saw_recipes_share_ingredients(GameTestHelper helper)
+    {
+        final Set<Ingredient> saws = Collections.newSetFromMap(new IdentityHashMap<>()), weakSaws = Collections.newSetFromMap(new IdentityHashMap<>());
+        int recipes = 0;
+        for (CraftingRecipe recipe : helper.getLevel().getRecipeManager().getAllRecipesFor(RecipeType.CRAFTING))
+        {
+            if (recipe instanceof ToolDamagingRecipe toolRecipe && recipe.getResultItem(helper.getLevel().registryAccess()).is(ItemTags.PLANKS))
+            {
+                // Generated recipes are a saw above a log, making either four (with a saw) or two (with a weak saw) planks
+                final Set<Ingredient> shared = recipe.getResultItem(helper.getLevel().registryAccess()).getCount() == 4 ? saws : weakSaws;
+                shared.add(recipe.getIngredients().get(0));
+                shared.add(toolRecipe.getTool());
+                recipes++;
+            }
+        }
+
+        final Ingredient sharedSaws = Ingredient.of(ModTags.Items.SAWS), sharedWeakSaws = Ingredient.of(ModTags.Items.WEAK_SAWS);
+        final long unshared = retainedBytes(() -> generateSawRecipes(() -> Ingredient.of(ModTags.Items.SAWS), () -> Ingredient.of(ModTags.Items.WEAK_SAWS)));
+        final long shared = retainedBytes(() -> generateSawRecipes(() -> sharedSaws, () -> sharedWeakSaws));
+        DebugUtil.info(null, "Generated saw recipes: %d in the recipe manager. %d synthetic recipes retain about %.1fKB with unshared ingredients, and %.1fKB with shared ingredients", recipes, WOOD_TYPES * 2, unshared / 1024.0, shared / 1024.0);
+
+        helper.assertTrue(recipes > 0, "Expected generated saw recipes");
+        helper.assertTrue(saws.size() == 1, "Expected one saw ingredient shared by all generated recipes, got " + saws.size());
+        helper.assertTrue(weakSaws.size() == 1, "Expected one weak saw ingredient shared by all generated recipes, got " + weakSaws.size());
+        helper.succeed();
+    }
+
+    private static List<Recipe<?>> generateSawRecipes(Supplier<Ingredient> saws, Supplier<Ingredient> weakSaws)
+    {
+        final List<Recipe<?>> recipes = new ArrayList<>(WOOD_TYPES * 2);
+        final Ingredient log = Ingredient.of(Items.OAK_LOG); // Shared with the original recipe, so not part of the comparison
+        for (int i = 0; i < WOOD_TYPES; i++)
+        {
+            recipes.add(ModRecipes.sawLogToPlankRecipe(Helpers.identifier("test/saw_" + i), saws.get(), log, Items.OAK_PLANKS, 4));
+            recipes.add(ModRecipes.sawLogToPlankRecipe(Helpers.identifier("test/weak_saw_" + i), weakSaws.get(), log, Items.OAK_PLANKS, 2));
+        }
+        for (Recipe<?> recipe : recipes)
+        {
+            for (Ingredient ingredient : recipe.getIngredients())
+            {
+                ingredient.getItems();
+                ingredient.getStackingIds();
+            }
+        }
+        return recipes;
+    }
+
+    private static long retainedBytes(Supplier<List<Recipe<?>>> action)
+    {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        final long startBytes = runtime.totalMemory() - runtime.freeMemory();
+        final List<Recipe<?>> recipes = action.get();
+        System.gc();
+        final long bytes = runtime.totalMemory() - runtime.freeMemory() - startBytes;
+        Reference.reachabilityFence(recipes); // Keeps the recipes reachable until measured
+        return bytes;
+    }
+
+    private static long timeMatches(GameTestHelper helper, List<ToolDamagingRecipe> recipes, CraftingContainer grid, int expected)
+    {
+        final long startTime = System.nanoTime();
+        int matches = 0;
+        for (ToolDamagingRecipe recipe : recipes)
+        {
+            if (recipe.matches(grid, helper.getLevel()))
+            {
+                matches++;
+            }
+        }
+        final long duration = System.nanoTime() - startTime;
+        helper.assertTrue(matches == expected, "Expected " + expected + " matching recipes, got " + matches);
+        return duration;
+    }
+}
@@ -0,0 +1,286 @@
+package com.alcatrazescapee.notreepunching.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import com.alcatrazescapee.notreepunching.common.blockentity.LargeVesselBlockEntity;
+import com.alcatrazescapee.notreepunching.common.blocks.ModBlocks;
+import com.alcatrazescapee.notreepunching.common.container.SmallVesselContainer;
+import com.alcatrazescapee.notreepunching.common.items.ModItems;
+import com.alcatrazescapee.notreepunching.common.items.SmallVesselItem;
+import com.alcatrazescapee.notreepunching.util.DebugUtil;
+import com.alcatrazescapee.notreepunching.util.inventory.ItemStackAttachedInventory;
+
+/**
+ * GameTests for the ceramic vessels, covering both the persisted contents and the cost of common operations on them.
+ */
+@GameTestHolder("notreepunching")
+public class VesselTests
+{
+    private static final int QUICK_MOVE_ITERATIONS = 2000;
+    private static final int INSERTIONS = 10_000;
+
+    /**
+     * Moves a stack into and out of a small vessel via shift-click, many times over, and verifies the contents persisted to the stack's tag after each round.
+     * Logs the total duration, as with the other batch tests, in order to spot regressions in how vessel contents are saved.
+     */
+    @GameTest(template = "platform")
+    public static void test_small_vessel_quick_move_performance(GameTestHelper helper)
+    {
+        final FakePlayer player = FakePlayerFactory.getMinecraft((ServerLevel) helper.getLevel());
+        final ItemStack vessel = new ItemStack(ModItems.CERAMIC_SMALL_VESSEL.get());
+
+        player.getInventory().clearContent();
+        player.getInventory().selected = 0;
+        player.setItemInHand(InteractionHand.MAIN_HAND, vessel);
+        player.getInventory().setItem(9, new ItemStack(Items.COBBLESTONE, 64));
+
+        final SmallVesselContainer container = new SmallVesselContainer(0, player.getInventory(), InteractionHand.MAIN_HAND);
+        final int playerSlot = SmallVesselItem.SLOTS; // The first slot of the main inventory, which is inventory index 9
+
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < QUICK_MOVE_ITERATIONS; i++)
+        {
+            container.quickMoveStack(player, playerSlot);
+            helper.assertTrue(reparse(vessel).get(0).getCount() == 64, "Vessel should contain 64 cobblestone after quick move " + i + " into the vessel");
+
+            container.quickMoveStack(player, 0);
+            helper.assertTrue(reparse(vessel).get(0).isEmpty(), "Vessel should be empty after quick move " + i + " out of the vessel");
+        }
+        final long duration = System.nanoTime() - startTime;
+
+        DebugUtil.info(null, "Small vessel quick move: %d round trips in %.1fms (%.1fus per round trip, including verification)", QUICK_MOVE_ITERATIONS, duration / 1_000_000.0, duration / 1_000.0 / QUICK_MOVE_ITERATIONS);
+
+        helper.assertTrue(player.getInventory().countItem(Items.COBBLESTONE) == 64, "Player should end with all 64 cobblestone");
+        helper.succeed();
+    }
+
+    /**
+     * Measures the size of the update tag of a full, named, large vessel, which is sent with the chunk to every client, with and without contents being synced to clients.
+     */
+    @GameTest(template = "platform")
+    public static void test_large_vessel_update_tag_size(GameTestHelper helper)
+    {
+        final BlockPos pos = new BlockPos(1, 1, 1); // Place above the platform
+        helper.setBlock(pos, ModBlocks.CERAMIC_LARGE_VESSEL.get());
+
+        final LargeVesselBlockEntity vessel = helper.getBlockEntity(pos);
+        helper.assertTrue(vessel != null, "Large vessel block entity should exist");
+
+        vessel.setCustomName(Component.literal("Storage"));
+        int slot = 0;
+        for (Item item : BuiltInRegistries.ITEM)
+        {
+            if (slot >= vessel.size())
+            {
+                break;
+            }
+            final ItemStack stack = new ItemStack(item, item.getMaxStackSize());
+            if (!stack.isEmpty() && vessel.canContain(stack))
+            {
+                vessel.set(slot++, stack);
+            }
+        }
+
+        final CompoundTag withContents = vessel.createUpdateTag(true);
+        final CompoundTag withoutContents = vessel.createUpdateTag(false);
+        final int withContentsSize = sizeOf(withContents), withoutContentsSize = sizeOf(withoutContents);
+
+        DebugUtil.info(null, "Large vessel update tag: %d bytes with contents, %d bytes without contents", withContentsSize, withoutContentsSize);
+
+        helper.assertTrue(!withoutContents.contains("Items"), "Update tag without contents should not contain any items");
+        helper.assertTrue(withoutContents.getString("CustomName").equals(withContents.getString("CustomName")), "Update tag without contents should still contain the custom name");
+        helper.assertTrue(withoutContentsSize < withContentsSize, "Update tag without contents should be smaller");
+        helper.succeed();
+    }
+
+    /**
+     * Inserts 10k stacks into a large vessel through its item handler capability, the way automation does (by trying each slot in turn), emptying it whenever it fills up.
+     * Logs the total duration, and verifies no items were lost or created.
+     */
+    @GameTest(template = "platform")
+    public static void test_large_vessel_insertion_throughput(GameTestHelper helper)
+    {
+        final BlockPos pos = new BlockPos(1, 1, 1); // Place above the platform
+        helper.setBlock(pos, ModBlocks.CERAMIC_LARGE_VESSEL.get());
+
+        final LargeVesselBlockEntity vessel = helper.getBlockEntity(pos);
+        final IItemHandler handler = vessel.getCapability(ForgeCapabilities.ITEM_HANDLER).orElseThrow(() -> new IllegalStateException("Large vessel should have an item handler"));
+        final Item[] items = {Items.COBBLESTONE, Items.DIRT, Items.OAK_LOG, Items.FLINT, Items.CLAY_BALL};
+
+        int inserted = 0, extracted = 0;
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < INSERTIONS; i++)
+        {
+            final ItemStack stack = new ItemStack(items[i % items.length], 16);
+            ItemStack remainder = ItemHandlerHelper.insertItemStacked(handler, stack, false);
+            if (!remainder.isEmpty())
+            {
+                for (int slot = 0; slot < handler.getSlots(); slot++)
+                {
+                    extracted += handler.extractItem(slot, 64, false).getCount();
+                }
+                remainder = ItemHandlerHelper.insertItemStacked(handler, remainder, false);
+            }
+            inserted += 16 - remainder.getCount();
+        }
+        final long duration = System.nanoTime() - startTime;
+
+        int remaining = 0;
+        for (int slot = 0; slot < handler.getSlots(); slot++)
+        {
+            remaining += handler.getStackInSlot(slot).getCount();
+        }
+
+        DebugUtil.info(null, "Large vessel insertion: %d insertions in %.1fms (%.2fus per insertion)", INSERTIONS, duration / 1_000_000.0, duration / 1_000.0 / INSERTIONS);
+
+        helper.assertTrue(inserted == INSERTIONS * 16, "All items should have been inserted, but only " + inserted + " were");
+        helper.assertTrue(inserted == extracted + remaining, "Items should be conserved: inserted " + inserted + ", extracted " + extracted + ", remaining " + remaining);
+        helper.succeed();
+    }
+
+    /**
+     * The large vessel's item handler is provided by the block entity, and is invalidated once the vessel is removed, so automation does not keep inserting into a vessel that no longer exists.
+     */
+    @GameTest(template = "platform")
+    public static void test_large_vessel_item_handler_invalidated(GameTestHelper helper)
+    {
+        final BlockPos pos = new BlockPos(1, 1, 1); // Place above the platform
+        helper.setBlock(pos, ModBlocks.CERAMIC_LARGE_VESSEL.get());
+
+        final LargeVesselBlockEntity vessel = helper.getBlockEntity(pos);
+        final LazyOptional<IItemHandler> handler = vessel.getCapability(ForgeCapabilities.ITEM_HANDLER);
+
+        helper.assertTrue(handler.isPresent(), "Large vessel should have an item handler");
+        helper.assertTrue(vessel.getCapability(ForgeCapabilities.ITEM_HANDLER, Direction.UP) == handler, "Item handler should be reused between queries");
+
+        helper.setBlock(pos, Blocks.AIR);
+        helper.assertTrue(!handler.isPresent(), "Item handler should be invalidated when the vessel is removed");
+        helper.succeed();
+    }
+
+    /**
+     * The small vessel provides its item handler from the item itself, rather than from a listener attached to every stack.
+     */
+    @GameTest(template = "platform")
+    public static void test_small_vessel_item_handler(GameTestHelper helper)
+    {
+        final ItemStack vessel = new ItemStack(ModItems.CERAMIC_SMALL_VESSEL.get());
+        final IItemHandler handler = vessel.getCapability(ForgeCapabilities.ITEM_HANDLER).orElseThrow(() -> new IllegalStateException("Small vessel should have an item handler"));
+
+        helper.assertTrue(handler.getSlots() == SmallVesselItem.SLOTS, "Small vessel should have " + SmallVesselItem.SLOTS + " slots");
+        helper.assertTrue(handler.getStackInSlot(0).isEmpty() && handler.insertItem(0, new ItemStack(Items.FLINT, 16), true).isEmpty(), "Flint should be insertable");
+        helper.assertTrue(vessel.getTag() == null && ItemStack.isSameItemSameTags(vessel, new ItemStack(ModItems.CERAMIC_SMALL_VESSEL.get())), "Reading, or simulating, should not add a tag to the vessel");
+        helper.assertTrue(handler.insertItem(0, new ItemStack(Items.FLINT, 16), false).isEmpty(), "Flint should be inserted");
+        helper.assertTrue(reparse(vessel).get(0).getCount() == 16, "Inserted flint should be saved to the stack");
+        helper.assertTrue(handler.insertItem(1, new ItemStack(Items.ENDER_PEARL, 10), false).isEmpty() && handler.insertItem(1, new ItemStack(Items.ENDER_PEARL, 10), false).getCount() == 4, "Merging should stop at the max stack size of the item");
+        helper.assertTrue(handler.insertItem(2, new ItemStack(Items.ENDER_PEARL, 20), false).getCount() == 4, "Inserting into an empty slot should stop at the max stack size of the item");
+        helper.assertTrue(handler.getStackInSlot(1).getCount() == 16 && handler.getStackInSlot(2).getCount() == 16, "Ender pearls should be capped at 16 per slot");
+        helper.assertTrue(!new ItemStack(Items.FLINT).getCapability(ForgeCapabilities.ITEM_HANDLER).isPresent(), "Other items should not have an item handler");
+        helper.succeed();
+    }
+
+    /**
+     * Inventories created for the same stack, as by a menu and an item handler, share their contents. Changes made to a stack in place, such as damage, or a new name, are saved.
+     */
+    @GameTest(template = "platform")
+    public static void test_small_vessel_shared_contents(GameTestHelper helper)
+    {
+        final ItemStack vessel = new ItemStack(ModItems.CERAMIC_SMALL_VESSEL.get());
+        final ItemStackAttachedInventory menu = SmallVesselItem.INVENTORY.create(vessel);
+        final ItemStackAttachedInventory handler = SmallVesselItem.INVENTORY.create(vessel);
+
+        menu.set(0, new ItemStack(Items.IRON_PICKAXE));
+        helper.assertTrue(handler.get(0).is(Items.IRON_PICKAXE), "Inventories of the same stack should share their contents");
+
+        handler.get(0).setDamageValue(10);
+        handler.modified();
+        helper.assertTrue(reparse(vessel).get(0).getDamageValue() == 10, "Damage applied in place should be saved");
+
+        menu.get(0).setHoverName(Component.literal("Renamed"));
+        menu.modified();
+        helper.assertTrue(reparse(vessel).get(0).hasCustomHoverName() && reparse(vessel).get(0).getDamageValue() == 10, "A rename applied in place should be saved");
+        helper.succeed();
+    }
+
+    /**
+     * A stack changed in place without {@link ItemStackAttachedInventory#modified()} is not saved, so the shared contents are loaded from the tag again, rather than drifting away from it.
+     */
+    @GameTest(template = "platform")
+    public static void test_small_vessel_unsaved_changes_are_discarded(GameTestHelper helper)
+    {
+        final ItemStack vessel = new ItemStack(ModItems.CERAMIC_SMALL_VESSEL.get());
+        final ItemStackAttachedInventory menu = SmallVesselItem.INVENTORY.create(vessel);
+        menu.set(0, new ItemStack(Items.FLINT, 16));
+
+        menu.get(0).setCount(4);
+        helper.assertTrue(!menu.isCurrent(), "An inventory with unsaved changes should not be current");
+
+        final ItemStackAttachedInventory handler = SmallVesselItem.INVENTORY.create(vessel);
+        helper.assertTrue(handler.get(0).getCount() == 16, "A new inventory should see the saved contents, not the unsaved change");
+        helper.assertTrue(menu.get(0).getCount() == 16 && menu.isCurrent(), "The shared contents should be loaded from the tag again");
+        helper.assertTrue(reparse(vessel).get(0).getCount() == 16, "The tag should be unchanged");
+        helper.succeed();
+    }
+
+    /**
+     * The item handler is provided by the small vessel item itself, so stacks of other items, including stacks created after it, and other items of ours, are not given one.
+     */
+    @GameTest(template = "platform")
+    public static void test_item_handler_is_only_attached_to_small_vessels(GameTestHelper helper)
+    {
+        for (Item item : new Item[] {Items.COBBLESTONE, Items.CHEST, ModItems.CERAMIC_BUCKET.get(), ModItems.FLINT_KNIFE.get()})
+        {
+            helper.assertTrue(!new ItemStack(item).getCapability(ForgeCapabilities.ITEM_HANDLER).isPresent(), "Stacks of " + BuiltInRegistries.ITEM.getKey(item) + " should not have an item handler");
+        }
+
+        final ItemStack vessel = new ItemStack(ModItems.CERAMIC_SMALL_VESSEL.get());
+        helper.assertTrue(vessel.getCapability(ForgeCapabilities.ITEM_HANDLER).isPresent(), "Small vessel should have an item handler");
+        helper.assertTrue(vessel.copy().getCapability(ForgeCapabilities.ITEM_HANDLER).isPresent(), "A copy of a small vessel should have an item handler");
+        helper.succeed();
+    }
+
+    private static int sizeOf(CompoundTag tag)
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes))
+        {
+            NbtIo.write(tag, output);
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+        return bytes.size();
+    }
+
+    /**
+     * Parses the contents of a copy of the stack, which does not share any cached state with the original.
+     */
+    private static ItemStackAttachedInventory reparse(ItemStack stack)
+    {
+        return SmallVesselItem.INVENTORY.create(stack.copy());
+    }
+}